@@ -22,6 +22,8 @@ import seedu.address.model.ReadOnlyLibTask;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryLibTaskStorage;
+import seedu.address.storage.JournaledLibTaskStorage;
 import seedu.address.storage.JsonLibTaskStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.LibTaskStorage;
@@ -57,6 +59,16 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         LibTaskStorage libTaskStorage = new JsonLibTaskStorage(userPrefs.getLibTaskFilePath());
+        Path binaryFilePath = BinaryLibTaskStorage.getBinaryFilePath(userPrefs.getLibTaskFilePath());
+        if (config.isLibTaskStoredAsBinary()) {
+            // the JSON data file is only read to import it when there is no binary snapshot yet
+            libTaskStorage = new BinaryLibTaskStorage(binaryFilePath, libTaskStorage);
+        } else {
+            exportBinarySnapshot(binaryFilePath, libTaskStorage);
+        }
+        if (config.isLibTaskJournaled()) {
+            libTaskStorage = new JournaledLibTaskStorage(libTaskStorage);
+        }
         storage = new StorageManager(libTaskStorage, userPrefsStorage);
 
         initLogging(config);
@@ -68,6 +80,20 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Exports the binary snapshot at {@code binaryFilePath}, if LibTask was stored as binary before, to
+     * {@code libTaskStorage}, so that the newest data is read from it.
+     */
+    private void exportBinarySnapshot(Path binaryFilePath, LibTaskStorage libTaskStorage) {
+        try {
+            BinaryLibTaskStorage.exportSnapshot(binaryFilePath, libTaskStorage);
+        } catch (DataConversionException e) {
+            logger.warning("Binary snapshot " + binaryFilePath + " not in the correct format, it is not exported");
+        } catch (IOException e) {
+            logger.warning("Problem while exporting binary snapshot " + binaryFilePath + ": " + e);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s LibTask and {@code userPrefs}. <br>
      * The data from the sample LibTask will be used instead if {@code storage}'s LibTask is not found,
@@ -174,6 +200,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping LibTask ] =============================");
+        try {
+            storage.flushLibTask();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -15,6 +15,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isLibTaskJournaled = true;
+    private boolean isLibTaskStoredAsBinary = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +34,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isLibTaskJournaled() {
+        return isLibTaskJournaled;
+    }
+
+    public void setLibTaskJournaled(boolean isLibTaskJournaled) {
+        this.isLibTaskJournaled = isLibTaskJournaled;
+    }
+
+    public boolean isLibTaskStoredAsBinary() {
+        return isLibTaskStoredAsBinary;
+    }
+
+    public void setLibTaskStoredAsBinary(boolean isLibTaskStoredAsBinary) {
+        this.isLibTaskStoredAsBinary = isLibTaskStoredAsBinary;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +62,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && isLibTaskJournaled == o.isLibTaskJournaled
+                && isLibTaskStoredAsBinary == o.isLibTaskStoredAsBinary;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isLibTaskJournaled, isLibTaskStoredAsBinary);
     }
 
     @Override
@@ -57,6 +77,8 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nJournal LibTask changes : " + isLibTaskJournaled);
+        sb.append("\nStore LibTask as binary : " + isLibTaskStoredAsBinary);
         return sb.toString();
     }
 
@@ -0,0 +1,46 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A pool of immutable values created from strings, which returns the same instance for equal strings so that
+ * values repeated across many objects are only held in memory once.
+ * Values are never removed from the pool, so it should only be used for values with few distinct strings.
+ * The pool is safe to use from several threads at once.
+ *
+ * @param <T> Type of the values, which must be immutable.
+ */
+public class InternPool<T> {
+
+    private final Function<String, T> factory;
+    private final ConcurrentMap<String, T> values = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty pool of values created by {@code factory}.
+     * Any exception thrown by {@code factory} is thrown by {@link #intern(String)} and nothing is pooled.
+     */
+    public InternPool(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the pooled value for {@code string}, creating it if it is not in the pool yet.
+     */
+    public T intern(String string) {
+        requireNonNull(string);
+        T value = values.get(string);
+        return value != null ? value : values.computeIfAbsent(string, factory);
+    }
+
+    /**
+     * Returns the number of values in the pool.
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from string tokens to the keys of the items that have them.
+ * Tokens are kept sorted, so that the tokens starting with a prefix are found by a range lookup, and each token
+ * is also indexed by its substrings of {@link #GRAM_LENGTH} characters, so that the tokens containing a string,
+ * or within a small edit distance of it, are found without scanning every token. The grams of a token include
+ * its start and end, marked by a padding character, so that even short tokens have grams.
+ *
+ * Tokens are matched exactly as they are added, so any normalization such as upper-casing must be done by
+ * the caller, both when adding tokens and when looking them up.
+ *
+ * @param <K> Type of the keys of the indexed items.
+ */
+public class TokenIndex<K> {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private static final char PADDING = '\0';
+
+    private final NavigableMap<String, Set<K>> keysByToken = new TreeMap<>();
+    private final Map<String, Set<String>> tokensByGram = new HashMap<>();
+
+    /**
+     * Adds {@code key} under {@code token}.
+     */
+    public void add(String token, K key) {
+        requireNonNull(token);
+        requireNonNull(key);
+        keysByToken.computeIfAbsent(token, this::addGrams).add(key);
+    }
+
+    /**
+     * Removes {@code key} from under {@code token}, if it is there.
+     */
+    public void remove(String token, K key) {
+        requireNonNull(token);
+        requireNonNull(key);
+        Set<K> keys = keysByToken.get(token);
+        if (keys == null) {
+            return;
+        }
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            keysByToken.remove(token);
+            removeGrams(token);
+        }
+    }
+
+    /**
+     * Removes all tokens from the index.
+     */
+    public void clear() {
+        keysByToken.clear();
+        tokensByGram.clear();
+    }
+
+    /**
+     * Returns the keys under {@code token}.
+     */
+    public Set<K> getKeysWithToken(String token) {
+        requireNonNull(token);
+        Set<K> keys = keysByToken.get(token);
+        return keys == null ? Collections.emptySet() : Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Returns the keys under the tokens that start with {@code prefix}.
+     */
+    public Set<K> getKeysWithTokenStartingWith(String prefix) {
+        requireNonNull(prefix);
+        Set<K> keys = new HashSet<>();
+        for (Map.Entry<String, Set<K>> entry : keysByToken.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            keys.addAll(entry.getValue());
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the keys under the tokens that contain {@code string}.
+     */
+    public Set<K> getKeysWithTokenContaining(String string) {
+        requireNonNull(string);
+        Set<K> keys = new HashSet<>();
+        for (String token : getTokensToCheck(string)) {
+            if (token.contains(string)) {
+                keys.addAll(keysByToken.get(token));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the tokens within an edit distance of {@code maxDistance} from {@code word}, mapped to their
+     * distance from it.
+     *
+     * A token within the distance must share all but {@code GRAM_LENGTH * maxDistance} of the grams of
+     * {@code word}, as an edit changes at most {@link #GRAM_LENGTH} grams, so only the tokens that share enough
+     * grams with {@code word} have their distance computed.
+     */
+    public Map<String, Integer> getTokensWithinDistance(String word, int maxDistance) {
+        requireNonNull(word);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        Set<String> grams = getGrams(word);
+        int minSharedGrams = grams.size() - GRAM_LENGTH * maxDistance;
+        Collection<String> tokensToCheck;
+        if (minSharedGrams <= 0) {
+            tokensToCheck = keysByToken.keySet();
+        } else {
+            Map<String, Integer> sharedGramCounts = new HashMap<>();
+            for (String gram : grams) {
+                for (String token : tokensByGram.getOrDefault(gram, Collections.emptySet())) {
+                    sharedGramCounts.merge(token, 1, Integer::sum);
+                }
+            }
+            tokensToCheck = new ArrayList<>();
+            sharedGramCounts.forEach((token, count) -> {
+                if (count >= minSharedGrams) {
+                    tokensToCheck.add(token);
+                }
+            });
+        }
+
+        Map<String, Integer> distances = new HashMap<>();
+        for (String token : tokensToCheck) {
+            int distance = StringUtil.getEditDistance(word, token, maxDistance);
+            if (distance <= maxDistance) {
+                distances.put(token, distance);
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the tokens that may contain {@code string}, which are the tokens with its least common substring
+     * of {@link #GRAM_LENGTH} characters, or all tokens if it is too short to have one.
+     */
+    private Collection<String> getTokensToCheck(String string) {
+        if (string.length() < GRAM_LENGTH) {
+            return keysByToken.keySet();
+        }
+        Set<String> tokensToCheck = null;
+        for (int i = 0; i + GRAM_LENGTH <= string.length(); i++) {
+            Set<String> tokens = tokensByGram.get(string.substring(i, i + GRAM_LENGTH));
+            if (tokens == null) {
+                return Collections.emptySet();
+            }
+            if (tokensToCheck == null || tokens.size() < tokensToCheck.size()) {
+                tokensToCheck = tokens;
+            }
+        }
+        return tokensToCheck;
+    }
+
+    private Set<K> addGrams(String token) {
+        for (String gram : getGrams(token)) {
+            tokensByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(token);
+        }
+        return new HashSet<>();
+    }
+
+    private void removeGrams(String token) {
+        for (String gram : getGrams(token)) {
+            Set<String> tokens = tokensByGram.get(gram);
+            tokens.remove(token);
+            if (tokens.isEmpty()) {
+                tokensByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct grams of {@code token} padded at its start and end.
+     */
+    private static Set<String> getGrams(String token) {
+        String paddedToken = PADDING + token + PADDING;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= paddedToken.length(); i++) {
+            grams.add(paddedToken.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -1,10 +1,15 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +17,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +81,73 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * The string is first written to a temporary file in the same directory and forced to the disk, which then
+     * atomically replaces the file, so that the file is never left partially written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to a file, in the same way as {@link #writeToFile(Path, String)}.
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        Path tempFile = writeToTempFile(file, content);
+        try {
+            moveReplacingExisting(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes given bytes to a new temporary file in the same directory as {@code file}, and forces it to the disk.
+     * The caller is responsible for moving the temporary file over {@code file} or deleting it.
+     *
+     * @return the path of the temporary file.
+     */
+    public static Path writeToTempFile(Path file, byte[] content) throws IOException {
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            writeAndForce(channel, content);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    /**
+     * Appends given bytes to a file, creating the file if it does not exist yet, and forces it to the disk.
+     * A failed append may leave a part of the bytes at the end of the file.
+     */
+    public static void appendToFile(Path file, byte[] content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            writeAndForce(channel, content);
+        }
+    }
+
+    private static void writeAndForce(FileChannel channel, byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(true);
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists.
+     * The move is atomic if the file system supports it.
+     */
+    public static void moveReplacingExisting(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
@@ -48,6 +48,49 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns the edit distance between {@code first} and {@code second}, which is the least number of characters
+     * to insert, delete or replace to turn one into the other, if it is at most {@code maxDistance}.
+     * Returns {@code maxDistance + 1} otherwise, without computing the whole distance.
+     *   <br>examples:<pre>
+     *       getEditDistance("kitten", "sitting", 3) == 3
+     *       getEditDistance("kitten", "sitting", 1) == 2
+     *       </pre>
+     * @param maxDistance cannot be negative
+     */
+    public static int getEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        // Distances from the first i characters of first to each prefix of second, for the previous and current i
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int minInRow = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(previousRow[j], currentRow[j - 1]) + 1,
+                        previousRow[j - 1] + replaceCost);
+                minInRow = Math.min(minInRow, currentRow[j]);
+            }
+            if (minInRow > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return Math.min(previousRow[second.length()], maxDistance + 1);
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +26,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the error of the latest save of the LibTask if it failed.
+     * Saves happen after commands have been executed, so their errors are reported apart from the command results.
+     */
+    Optional<String> getSaveError();
+
+    /**
+     * Saves the LibTask if it was modified since it was last saved, and waits for all saves to finish.
+     *
+     * @return the error of the save if it failed.
+     */
+    Optional<String> finishSaving();
+
     /**
      * Returns the LibTask.
      *
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -31,6 +32,10 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final LibTaskParser libTaskParser;
 
+    // The version of the LibTask when it was last saved, or -1 if it has not been saved yet or a save has failed
+    private long savedLibTaskVersion = -1;
+    private Optional<String> saveError = Optional.empty();
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -55,15 +60,48 @@ public class LogicManager implements Logic {
         Command command = libTaskParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        saveLibTaskIfModified();
         try {
-            storage.saveLibTask(model.getLibTask());
+            storage.checkLibTaskSaveFailure();
+            saveError = Optional.empty();
         } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            recordSaveFailure(ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public Optional<String> getSaveError() {
+        return saveError;
+    }
+
+    @Override
+    public Optional<String> finishSaving() {
+        saveLibTaskIfModified();
+        try {
+            storage.flushLibTask();
+            saveError = Optional.empty();
+        } catch (IOException ioe) {
+            recordSaveFailure(ioe);
+        }
+        return saveError;
+    }
+
+    private void saveLibTaskIfModified() {
+        long libTaskVersion = model.getLibTaskVersion();
+        if (libTaskVersion != savedLibTaskVersion) {
+            storage.saveLibTaskInBackground(model.getLibTask());
+            savedLibTaskVersion = libTaskVersion;
+        }
+    }
+
+    private void recordSaveFailure(IOException ioe) {
+        // Saves again after the next command, as the failed save may have been the last one
+        savedLibTaskVersion = -1;
+        saveError = Optional.of(FILE_OPS_ERROR_MESSAGE + ioe);
+    }
+
     @Override
     public ReadOnlyLibTask getLibTask() {
         return model.getLibTask();
@@ -2,10 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_BOOKS;
-import static seedu.address.model.book.BookStatus.STATUS_DATE_FORMAT;
 
-import java.text.ParseException;
-import java.util.Date;
+import java.time.LocalDate;
 import java.util.List;
 
 import seedu.address.commons.core.Messages;
@@ -13,6 +11,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.book.Book;
+import seedu.address.model.book.BookStatus;
 import seedu.address.model.patron.Patron;
 
 /**
@@ -94,12 +93,7 @@ public class BorrowCommand extends Command {
     }
 
     private boolean isAfterCurrentDate(String returnDate) {
-        Date currentDate = new Date();
-        try {
-            Date commandReturnDate = STATUS_DATE_FORMAT.parse(returnDate);
-            return commandReturnDate.after(currentDate);
-        } catch (ParseException e) {
-            return false;
-        }
+        LocalDate currentDate = BookStatus.getCurrentDate();
+        return BookStatus.parseDate(returnDate).map(date -> date.isAfter(currentDate)).orElse(false);
     }
 }
@@ -20,6 +20,7 @@ public abstract class Command {
     public static final String FIND_COMMAND_WORD = "find";
     public static final String LIST_COMMAND_WORD = "list";
     public static final String OVERDUE_COMMAND_WORD = "overdue";
+    public static final String DUE_COMMAND_WORD = "due";
     public static final String PREVIOUS_COMMAND_WORD = "u";
     public static final String RETURN_COMMAND_WORD = "return";
     public static final String BORROW_COMMAND_WORD = "borrow";
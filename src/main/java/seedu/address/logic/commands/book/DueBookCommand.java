@@ -0,0 +1,46 @@
+package seedu.address.logic.commands.book;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.book.BookQuery;
+
+/**
+ * Lists all borrowed books in LibTask that are due within a number of days to the user.
+ */
+public class DueBookCommand extends Command {
+
+    public static final String MESSAGE_USAGE = BOOK_COMMAND_GROUP + " " + DUE_COMMAND_WORD
+            + ": Lists all the borrowed books that are due from today to the specified number of days later. \n"
+            + "Parameters: DAYS (must be a non-negative integer)\n"
+            + "Example: " + BOOK_COMMAND_GROUP + " " + DUE_COMMAND_WORD + " 7";
+
+    public static final String MESSAGE_SUCCESS = "Listed all books due within %1$d day(s)";
+
+    private final int days;
+
+    /**
+     * @param days number of days after today, inclusive, to list the due books of
+     */
+    public DueBookCommand(int days) {
+        checkArgument(days >= 0);
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredBookList(BookQuery.isDueWithin(days));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, days));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof DueBookCommand) // instanceof handles null
+            && days == ((DueBookCommand) other).days;
+    }
+}
@@ -1,11 +1,17 @@
 package seedu.address.logic.commands.book;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AUTHOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.function.Predicate;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
@@ -13,24 +19,56 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.book.Book;
+import seedu.address.model.book.BookFuzzyKeywordsPredicate;
+import seedu.address.model.book.BookQuery;
+import seedu.address.model.book.BookSearchResult;
+import seedu.address.model.book.IndexedBookPredicate;
 
+/**
+ * Finds the books in LibTask that match a query, most relevant first, and lists one page of them to the user.
+ */
+public class FindBookCommand extends Command {
 
+    /** Number of books listed on each page of results. */
+    public static final int PAGE_SIZE = 20;
 
-public class FindBookCommand extends Command {
     public static final String MESSAGE_USAGE = BOOK_COMMAND_GROUP + " " + FIND_COMMAND_WORD
-            + ": Find a book based on the author, tag or book title "
+            + ": Find a book based on the author, tag or book title, or on a query "
             + "Parameters:"
             + "[" + PREFIX_NAME + "NAME] or "
             + "[" + PREFIX_AUTHOR + "AUTHOR] or "
-            + "[" + PREFIX_TAG + "TAG]\n"
-            + "A prefix can only be used once"
+            + "[" + PREFIX_TAG + "TAG] or "
+            + "[" + PREFIX_QUERY + "QUERY] "
+            + "[" + PREFIX_PAGE + "PAGE]\n"
+            + "A prefix can only be used once. "
+            + "Start the value with " + BookFuzzyKeywordsPredicate.MARKER + " to also find books with words "
+            + "that are spelt slightly differently, closest matches first.\n"
+            + BookQuery.MESSAGE_CONSTRAINTS + "\n"
+            + "The most relevant books are listed first, " + PAGE_SIZE + " books to a page.\n"
             + "Example: " + BOOK_COMMAND_GROUP + " " + FIND_COMMAND_WORD + " "
-            + PREFIX_NAME + "Harry Potter";
+            + PREFIX_NAME + "Harry Potter " + PREFIX_PAGE + "2";
+
+    public static final String MESSAGE_BOOKS_PAGE_OVERVIEW = "%1$d books found, page %2$d of %3$d listed!";
+    public static final String MESSAGE_INVALID_PAGE = "There are only %1$d page(s) of books found!";
 
-    private final Predicate<Book> predicate;
+    private final IndexedBookPredicate predicate;
+    private final int pageNumber;
+
+    /**
+     * Creates a command that lists the first page of books that match {@code predicate}.
+     */
+    public FindBookCommand(IndexedBookPredicate predicate) {
+        this(predicate, 1);
+    }
 
-    public FindBookCommand(Predicate<Book> predicate) {
+    /**
+     * @param predicate the query to find books that match
+     * @param pageNumber one-based number of the page of books to list
+     */
+    public FindBookCommand(IndexedBookPredicate predicate, int pageNumber) {
+        checkArgument(pageNumber > 0);
         this.predicate = predicate;
+        this.pageNumber = pageNumber;
     }
 
     @Override
@@ -38,8 +76,34 @@ public class FindBookCommand extends Command {
         requireNonNull(model);
         requireNonNull(predicate);
 
-        model.updateFilteredBookList(predicate);
-        return new CommandResult(String.format(Messages.MESSAGE_BOOKS_LISTED_OVERVIEW,
-                model.getFilteredBookList().size()));
+        int limit = (int) Math.min((long) pageNumber * PAGE_SIZE, Integer.MAX_VALUE);
+        BookSearchResult result = model.searchBooks(predicate, limit);
+        int pageCount = Math.max(1, (result.getMatchCount() + PAGE_SIZE - 1) / PAGE_SIZE);
+        if (pageNumber > pageCount) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, pageCount));
+        }
+
+        List<Book> topBooks = result.getTopBooks();
+        List<Book> pageBooks = topBooks.subList((pageNumber - 1) * PAGE_SIZE, topBooks.size());
+        Map<Book, Integer> ranks = new IdentityHashMap<>();
+        for (int i = 0; i < pageBooks.size(); i++) {
+            ranks.put(pageBooks.get(i), i);
+        }
+        model.updateFilteredBookList(ranks::containsKey, Comparator.comparing(ranks::get));
+
+        if (pageCount == 1) {
+            return new CommandResult(String.format(Messages.MESSAGE_BOOKS_LISTED_OVERVIEW,
+                    model.getFilteredBookList().size()));
+        }
+        return new CommandResult(String.format(MESSAGE_BOOKS_PAGE_OVERVIEW, result.getMatchCount(), pageNumber,
+                pageCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindBookCommand // instanceof handles nulls
+                && predicate.equals(((FindBookCommand) other).predicate)
+                && pageNumber == ((FindBookCommand) other).pageNumber); // state check
     }
 }
@@ -0,0 +1,23 @@
+package seedu.address.logic.commands.book;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.book.BookQuery;
+
+/**
+ * Lists all overdue books in LibTask to the user.
+ */
+public class OverdueBookCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Listed all overdue books";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredBookList(BookQuery.hasStatus(BookQuery.Status.OVERDUE));
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -2,14 +2,18 @@ package seedu.address.logic.commands.patron;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
-import seedu.address.model.patron.NameContainsKeywordsPredicate;
+import seedu.address.model.patron.IndexedPatronPredicate;
+import seedu.address.model.patron.Patron;
 
 /**
- * Finds and lists all patrons in LibTask whose name contains any of the argument keywords.
+ * Finds and lists all patrons in LibTask whose name contains any of the argument keywords, or whose details
+ * match any of the argument patterns.
  * Keyword matching is case insensitive.
  */
 public class FindPatronCommand extends Command {
@@ -17,19 +21,23 @@ public class FindPatronCommand extends Command {
     public static final String MESSAGE_USAGE = PATRON_COMMAND_GROUP + " " + FIND_COMMAND_WORD
             + ": Finds all patrons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "A keyword ending with * matches the start of a name word, email, phone or id, and one starting "
+            + "with * matches their end.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + PATRON_COMMAND_GROUP + " " + FIND_COMMAND_WORD + " alice bob charlie";
+            + "Example: " + PATRON_COMMAND_GROUP + " " + FIND_COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + PATRON_COMMAND_GROUP + " " + FIND_COMMAND_WORD + " ali* *@example.com";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final IndexedPatronPredicate predicate;
 
-    public FindPatronCommand(NameContainsKeywordsPredicate predicate) {
+    public FindPatronCommand(IndexedPatronPredicate predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPatronList(predicate);
+        Set<Patron> matchingPatrons = model.getPatronsMatching(predicate);
+        model.updateFilteredPatronList(matchingPatrons::contains);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PATRONS_LISTED_OVERVIEW, model.getFilteredPatronList().size()));
     }
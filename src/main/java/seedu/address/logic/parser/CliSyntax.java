@@ -15,5 +15,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_AUTHOR = new Prefix("a/");
     public static final Prefix PREFIX_PATRON = new Prefix("p/");
     public static final Prefix PREFIX_BOOK = new Prefix("b/");
+    public static final Prefix PREFIX_PAGE = new Prefix("pg/");
+    public static final Prefix PREFIX_QUERY = new Prefix("q/");
 
 }
@@ -113,7 +113,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -140,7 +140,7 @@ public class ParserUtil {
         if (!Author.isValidAuthor(trimmedAuthor)) {
             throw new ParseException(Author.MESSAGE_CONSTRAINTS);
         }
-        return new Author(trimmedAuthor);
+        return Author.of(trimmedAuthor);
     }
 
     /**
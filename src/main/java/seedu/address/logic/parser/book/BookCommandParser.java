@@ -9,6 +9,7 @@ import java.util.regex.Pattern;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.book.ListBookCommand;
+import seedu.address.logic.commands.book.OverdueBookCommand;
 import seedu.address.logic.parser.LibTaskParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -63,6 +64,12 @@ public class BookCommandParser {
         case Command.FIND_COMMAND_WORD:
             return new FindBookParser().parse(arguments);
 
+        case Command.OVERDUE_COMMAND_WORD:
+            return new OverdueBookCommand();
+
+        case Command.DUE_COMMAND_WORD:
+            return new DueBookCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
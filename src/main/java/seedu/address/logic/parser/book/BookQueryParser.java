@@ -0,0 +1,175 @@
+package seedu.address.logic.parser.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.book.BookQuery;
+
+/**
+ * Parses a query of the book query language into a {@code BookQuery}.
+ *
+ * A query is made of terms, which can be grouped with brackets and combined with NOT, AND and OR, in order of
+ * precedence. Terms next to each other are combined with AND. Operators and terms are not case-sensitive.
+ */
+public class BookQueryParser {
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid query near %1$s!\n" + BookQuery.MESSAGE_CONSTRAINTS;
+
+    private static final String END_OF_QUERY = "the end of the query";
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses {@code query} into a {@code BookQuery}.
+     *
+     * @throws ParseException if {@code query} is not a valid query
+     */
+    public BookQuery parse(String query) throws ParseException {
+        requireNonNull(query);
+        tokens = tokenize(query);
+        position = 0;
+        BookQuery bookQuery = parseOr();
+        if (hasNext()) {
+            throw invalidQuery();
+        }
+        return bookQuery;
+    }
+
+    private BookQuery parseOr() throws ParseException {
+        List<BookQuery> queries = new ArrayList<>();
+        queries.add(parseAnd());
+        while (isNext("OR")) {
+            position++;
+            queries.add(parseAnd());
+        }
+        return queries.size() == 1 ? queries.get(0) : BookQuery.or(queries);
+    }
+
+    private BookQuery parseAnd() throws ParseException {
+        List<BookQuery> queries = new ArrayList<>();
+        queries.add(parseNot());
+        while (hasNext() && !isNext("OR") && !isNext(")")) {
+            if (isNext("AND")) {
+                position++;
+            }
+            queries.add(parseNot());
+        }
+        return queries.size() == 1 ? queries.get(0) : BookQuery.and(queries);
+    }
+
+    private BookQuery parseNot() throws ParseException {
+        if (isNext("NOT")) {
+            position++;
+            return BookQuery.not(parseNot());
+        }
+        return parseAtom();
+    }
+
+    private BookQuery parseAtom() throws ParseException {
+        if (!hasNext() || isNext(")") || isNext("AND") || isNext("OR")) {
+            throw invalidQuery();
+        }
+        if (isNext("(")) {
+            position++;
+            BookQuery query = parseOr();
+            if (!isNext(")")) {
+                throw invalidQuery();
+            }
+            position++;
+            return query;
+        }
+        BookQuery query = parseTerm(tokens.get(position));
+        position++;
+        return query;
+    }
+
+    private BookQuery parseTerm(String term) throws ParseException {
+        switch (term.toLowerCase()) {
+        case "available":
+            return BookQuery.hasStatus(BookQuery.Status.AVAILABLE);
+        case "borrowed":
+            return BookQuery.hasStatus(BookQuery.Status.BORROWED);
+        case "overdue":
+            return BookQuery.hasStatus(BookQuery.Status.OVERDUE);
+        default:
+            break;
+        }
+
+        int separatorIndex = term.indexOf(':');
+        String value = separatorIndex == -1 ? "" : term.substring(separatorIndex + 1).trim();
+        if (value.isEmpty()) {
+            throw invalidQuery();
+        }
+        switch (term.substring(0, separatorIndex).toLowerCase()) {
+        case "name":
+            return BookQuery.nameContains(value);
+        case "author":
+            return BookQuery.authorContains(value);
+        case "tag":
+            return BookQuery.tagContains(value);
+        case "isbn":
+            String digits = value.replace("-", "");
+            if (digits.isEmpty() || !digits.chars().allMatch(Character::isDigit)) {
+                throw invalidQuery();
+            }
+            return BookQuery.isbnStartsWith(digits);
+        default:
+            throw invalidQuery();
+        }
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private boolean isNext(String token) {
+        return hasNext() && tokens.get(position).equalsIgnoreCase(token);
+    }
+
+    private ParseException invalidQuery() {
+        String location = hasNext() ? '"' + tokens.get(position) + '"' : END_OF_QUERY;
+        return new ParseException(String.format(MESSAGE_INVALID_QUERY, location));
+    }
+
+    /**
+     * Splits {@code query} into brackets and the words between whitespace and brackets.
+     * Quoted parts of a word are kept whole, without their quotes.
+     *
+     * @throws ParseException if a quote is not closed
+     */
+    private static List<String> tokenize(String query) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                StringBuilder word = new StringBuilder();
+                while (i < query.length() && !Character.isWhitespace(query.charAt(i))
+                        && query.charAt(i) != '(' && query.charAt(i) != ')') {
+                    if (query.charAt(i) == '"') {
+                        int closingQuote = query.indexOf('"', i + 1);
+                        if (closingQuote == -1) {
+                            throw new ParseException(String.format(MESSAGE_INVALID_QUERY, query.substring(i)));
+                        }
+                        word.append(query, i + 1, closingQuote);
+                        i = closingQuote + 1;
+                    } else {
+                        word.append(query.charAt(i));
+                        i++;
+                    }
+                }
+                tokens.add(word.toString());
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser.book;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.book.DueBookCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and create a new DueBookCommand object
+ */
+public class DueBookCommandParser implements Parser<DueBookCommand> {
+
+    /** Up to 9 digits, so that the number of days always fits in an int. */
+    private static final String DAYS_VALIDATION_REGEX = "\\d{1,9}";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DueBookCommand
+     * and returns a DueBookCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DueBookCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+
+        if (!trimmedArgs.matches(DAYS_VALIDATION_REGEX)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueBookCommand.MESSAGE_USAGE));
+        }
+        return new DueBookCommand(Integer.parseInt(trimmedArgs));
+    }
+
+}
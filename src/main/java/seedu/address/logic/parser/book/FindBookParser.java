@@ -3,11 +3,14 @@ package seedu.address.logic.parser.book;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AUTHOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.book.FindBookCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
@@ -15,10 +18,12 @@ import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.book.Book;
 import seedu.address.model.book.BookAuthorContainsKeywordsPredicate;
+import seedu.address.model.book.BookFuzzyKeywordsPredicate;
 import seedu.address.model.book.BookNameContainsKeywordsPredicate;
+import seedu.address.model.book.BookSearchField;
 import seedu.address.model.book.BookTagContainsKeywordsPredicate;
+import seedu.address.model.book.IndexedBookPredicate;
 
 
 public class FindBookParser implements Parser<Command> {
@@ -31,22 +36,68 @@ public class FindBookParser implements Parser<Command> {
      */
     public Command parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_AUTHOR, PREFIX_TAG);
-        if (!argMultimap.hasExactlyOneQueriedPrefix(PREFIX_NAME, PREFIX_AUTHOR, PREFIX_TAG)) {
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_AUTHOR, PREFIX_TAG, PREFIX_QUERY, PREFIX_PAGE);
+        if (!argMultimap.hasExactlyOneQueriedPrefix(PREFIX_NAME, PREFIX_AUTHOR, PREFIX_TAG, PREFIX_QUERY)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBookCommand.MESSAGE_USAGE));
         }
 
-        List<Prefix> prefixes = argMultimap.getNonEmptyPrefixes(PREFIX_NAME, PREFIX_AUTHOR, PREFIX_TAG);
+        List<Prefix> prefixes = argMultimap.getNonEmptyPrefixes(PREFIX_NAME, PREFIX_AUTHOR, PREFIX_TAG, PREFIX_QUERY);
 
         Prefix queriedPrefix = prefixes.get(0);
         if (!argMultimap.hasExactlyOneValue(queriedPrefix)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBookCommand.MESSAGE_USAGE));
         }
         String argument = (argMultimap.getValue(queriedPrefix)).get();
-        return new FindBookCommand(parsePredicate(queriedPrefix, List.of(argument)));
+        int pageNumber = parsePageNumber(argMultimap);
+        if (PREFIX_QUERY.equals(queriedPrefix)) {
+            return new FindBookCommand(new BookQueryParser().parse(argument), pageNumber);
+        }
+        if (argument.startsWith(BookFuzzyKeywordsPredicate.MARKER)) {
+            return new FindBookCommand(parseFuzzyPredicate(queriedPrefix,
+                    argument.substring(BookFuzzyKeywordsPredicate.MARKER.length())), pageNumber);
+        }
+        return new FindBookCommand(parsePredicate(queriedPrefix, List.of(argument)), pageNumber);
+    }
+
+    /**
+     * Parses the page number of the books to list, which is the first page if no page is given.
+     */
+    private static int parsePageNumber(ArgumentMultimap argMultimap) throws ParseException {
+        if (argMultimap.getValue(PREFIX_PAGE).isEmpty()) {
+            return 1;
+        }
+        String pageNumber = argMultimap.getValue(PREFIX_PAGE).get().trim();
+        if (!argMultimap.hasExactlyOneValue(PREFIX_PAGE) || !StringUtil.isNonZeroUnsignedInteger(pageNumber)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBookCommand.MESSAGE_USAGE));
+        }
+        return Integer.parseInt(pageNumber);
+    }
+
+    /**
+     * Parses {@code query} into a predicate matching books with a value of the field of {@code prefix} close
+     * to every word of {@code query}.
+     */
+    private static IndexedBookPredicate parseFuzzyPredicate(Prefix prefix, String query) throws ParseException {
+        String trimmedQuery = query.trim();
+        if (trimmedQuery.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBookCommand.MESSAGE_USAGE));
+        }
+        List<String> keywords = Arrays.asList(trimmedQuery.split("\\s+"));
+        return new BookFuzzyKeywordsPredicate(parseSearchField(prefix), keywords);
+    }
+
+    private static BookSearchField parseSearchField(Prefix prefix) throws ParseException {
+        if (PREFIX_AUTHOR.equals(prefix)) {
+            return BookSearchField.AUTHOR;
+        } else if (PREFIX_NAME.equals(prefix)) {
+            return BookSearchField.NAME;
+        } else if (PREFIX_TAG.equals(prefix)) {
+            return BookSearchField.TAG;
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBookCommand.MESSAGE_USAGE));
     }
 
-    private static Predicate<Book> parsePredicate(Prefix prefix, List<String> args) throws ParseException {
+    private static IndexedBookPredicate parsePredicate(Prefix prefix, List<String> args) throws ParseException {
         if (PREFIX_AUTHOR.equals(prefix)) {
             return new BookAuthorContainsKeywordsPredicate(args);
         } else if (PREFIX_NAME.equals(prefix)) {
@@ -3,11 +3,13 @@ package seedu.address.logic.parser.patron;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.patron.FindPatronCommand;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.patron.NameContainsKeywordsPredicate;
+import seedu.address.model.patron.PatronMatchesPatternsPredicate;
 
 /**
  * Parses input arguments and creates a new FindPatronCommand object
@@ -26,9 +28,11 @@ public class FindPatronCommandParser implements Parser<FindPatronCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPatronCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
-
-        return new FindPatronCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        List<String> keywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        if (keywords.stream().anyMatch(PatronMatchesPatternsPredicate::isPattern)) {
+            return new FindPatronCommand(new PatronMatchesPatternsPredicate(keywords));
+        }
+        return new FindPatronCommand(new NameContainsKeywordsPredicate(keywords));
     }
 
 }
@@ -5,10 +5,14 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.book.Book;
 import seedu.address.model.book.BookList;
+import seedu.address.model.book.BookSearchResult;
+import seedu.address.model.book.IndexedBookPredicate;
+import seedu.address.model.patron.IndexedPatronPredicate;
 import seedu.address.model.patron.Patron;
 import seedu.address.model.patron.UniquePatronList;
 
@@ -66,8 +70,8 @@ public class LibTask implements ReadOnlyLibTask {
     public void resetData(ReadOnlyLibTask newData) {
         requireNonNull(newData);
 
-        setPatrons(newData.getPatronList());
-        setBooks(newData.getBookList());
+        patrons.setPatrons(newData.getPatronList(), newData.getPatronChangeLog());
+        books.setBooks(newData.getBookList(), newData.getBookChangeLog());
     }
 
     //// patron-level operations
@@ -246,6 +250,30 @@ public class LibTask implements ReadOnlyLibTask {
         return books.hasOverdueBooks(patron);
     }
 
+    /**
+     * Returns the set of borrowed books that are due from today to {@code days} days later, both inclusive.
+     */
+    public Set<Book> getBooksDueWithin(int days) {
+        return books.getBooksDueWithin(days);
+    }
+
+    /**
+     * Returns the {@code limit} best books that satisfy {@code predicate}, found through the indexes of the book
+     * list, along with the number of books that satisfy it.
+     */
+    public BookSearchResult searchBooks(IndexedBookPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        return books.searchBooks(predicate, limit);
+    }
+
+    /**
+     * Returns the set of patrons that satisfy {@code predicate}, found through the search index of the patron list.
+     */
+    public Set<Patron> getPatronsMatching(IndexedPatronPredicate predicate) {
+        requireNonNull(predicate);
+        return patrons.getPatronsMatching(predicate);
+    }
+
     /**
      * Returns true if this model contains a model that is not the same as {@code oldPatron} based on
      * {@link Patron#equals(Object)}, but same as {@code editedPatron} based on {@link Patron#isSamePatron(Patron)}.
@@ -287,6 +315,14 @@ public class LibTask implements ReadOnlyLibTask {
 
     //// util methods
 
+    /**
+     * Returns the number of modifications made to this LibTask so far.
+     * The version only ever increases, so an unchanged version means that this LibTask has not been modified.
+     */
+    public long getVersion() {
+        return patrons.getVersion() + books.getVersion();
+    }
+
     @Override
     public String toString() {
         return patrons.asUnmodifiableObservableList().size() + " patrons";
@@ -303,6 +339,16 @@ public class LibTask implements ReadOnlyLibTask {
         return books.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ListChangeLog<Patron> getPatronChangeLog() {
+        return patrons.getChangeLog();
+    }
+
+    @Override
+    public ListChangeLog<Book> getBookChangeLog() {
+        return books.getChangeLog();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
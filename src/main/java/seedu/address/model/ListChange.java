@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+/**
+ * A change to a single position of a list: inserting an item at an index, setting the item at an index, or
+ * removing the item at an index.
+ * Guarantees: immutable; the item is present and not null unless the change is a removal.
+ *
+ * @param <T> the type of the items in the list
+ */
+public final class ListChange<T> {
+
+    /**
+     * The kinds of changes to a position of a list.
+     */
+    public enum Type {
+        INSERT, SET, REMOVE
+    }
+
+    private final Type type;
+    private final int index;
+    private final T item;
+
+    private ListChange(Type type, int index, T item) {
+        checkArgument(index >= 0, "Index cannot be negative");
+        this.type = type;
+        this.index = index;
+        this.item = item;
+    }
+
+    /**
+     * Returns a change that inserts {@code item} at {@code index}.
+     */
+    public static <T> ListChange<T> insert(int index, T item) {
+        requireNonNull(item);
+        return new ListChange<>(Type.INSERT, index, item);
+    }
+
+    /**
+     * Returns a change that replaces the item at {@code index} with {@code item}.
+     */
+    public static <T> ListChange<T> set(int index, T item) {
+        requireNonNull(item);
+        return new ListChange<>(Type.SET, index, item);
+    }
+
+    /**
+     * Returns a change that removes the item at {@code index}.
+     */
+    public static <T> ListChange<T> remove(int index) {
+        return new ListChange<>(Type.REMOVE, index, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the item inserted or set by this change, or null if this change is a removal.
+     */
+    public T getItem() {
+        return item;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListChange // instanceof handles nulls
+                && type == ((ListChange<?>) other).type
+                && index == ((ListChange<?>) other).index
+                && Objects.equals(item, ((ListChange<?>) other).item)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, index, item);
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + index + (item == null ? "" : " " + item);
+    }
+}
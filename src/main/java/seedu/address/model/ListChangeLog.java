@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The log of the changes made to a list, as of one version of the list.
+ * Each change made to the list gives a new log that links back to the log of the version it was made to, so the
+ * changes made since an earlier version are read by following the links back to the log of that version.
+ *
+ * Logs are immutable, so a copy of a list can carry on the log of the list it was copied from, and a log can be read
+ * on another thread while the list goes on being modified. A log only links back to the last
+ * {@link #MAX_CHANGE_COUNT} changes, so the changes made to a list do not pile up in memory.
+ *
+ * @param <T> the type of the items in the list
+ */
+public final class ListChangeLog<T> {
+
+    /** The largest number of changes that a log links back to before the earlier changes are forgotten. */
+    public static final int MAX_CHANGE_COUNT = 1000;
+
+    private final ListChangeLog<T> previous; // null if the changes made before this version are not known
+    private final ListChange<T> change; // the change made to the previous version to give this one
+    private final int changeCount;
+
+    /**
+     * Creates the log of a list whose earlier changes are not known, such as a new list or a list whose contents
+     * were replaced all at once.
+     */
+    public ListChangeLog() {
+        this(null, null, 0);
+    }
+
+    private ListChangeLog(ListChangeLog<T> previous, ListChange<T> change, int changeCount) {
+        this.previous = previous;
+        this.change = change;
+        this.changeCount = changeCount;
+    }
+
+    /**
+     * Returns the log of the version of the list given by making {@code change} to the version of this log.
+     */
+    public ListChangeLog<T> append(ListChange<T> change) {
+        requireNonNull(change);
+        if (changeCount >= MAX_CHANGE_COUNT) {
+            return new ListChangeLog<>();
+        }
+        return new ListChangeLog<>(this, change, changeCount + 1);
+    }
+
+    /**
+     * Returns the changes that turn the version of {@code earlierLog} into the version of this log, in the order
+     * they were made. This takes time proportional to the number of changes, not to the size of the list.
+     *
+     * @return An empty optional if the version of {@code earlierLog} is not an earlier version of this log that
+     *     is still linked to, or if {@code earlierLog} is null.
+     */
+    public Optional<List<ListChange<T>>> getChangesSince(ListChangeLog<T> earlierLog) {
+        List<ListChange<T>> changes = new ArrayList<>();
+        for (ListChangeLog<T> log = this; log != earlierLog; log = log.previous) {
+            if (log.previous == null) {
+                return Optional.empty();
+            }
+            changes.add(log.change);
+        }
+        Collections.reverse(changes);
+        return Optional.of(changes);
+    }
+}
@@ -1,12 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.book.Book;
+import seedu.address.model.book.BookSearchResult;
+import seedu.address.model.book.IndexedBookPredicate;
+import seedu.address.model.patron.IndexedPatronPredicate;
 import seedu.address.model.patron.Patron;
 
 /**
@@ -55,6 +60,11 @@ public interface Model {
     /** Returns the LibTask */
     ReadOnlyLibTask getLibTask();
 
+    /**
+     * Returns the version of the LibTask, which changes whenever the LibTask is modified.
+     */
+    long getLibTaskVersion();
+
     /**
      * Returns true if a patron with the same identity as {@code patron} exists in LibTask.
      */
@@ -185,6 +195,23 @@ public interface Model {
      */
     boolean hasOverdueBooks(Patron patron);
 
+    /**
+     * Returns the set of borrowed books that are due from today to {@code days} days later, both inclusive.
+     * {@code days} must not be negative.
+     */
+    Set<Book> getBooksDueWithin(int days);
+
+    /**
+     * Returns the {@code limit} best books that satisfy {@code predicate}, found through the indexes of the book
+     * list, along with the number of books that satisfy it.
+     */
+    BookSearchResult searchBooks(IndexedBookPredicate predicate, int limit);
+
+    /**
+     * Returns the set of patrons that satisfy {@code predicate}, found through the search index of the patron list.
+     */
+    Set<Patron> getPatronsMatching(IndexedPatronPredicate predicate);
+
     /**
      * Returns true if this model contains a model that is not the same as {@code oldPatron} based on
      * {@link Patron#equals(Object)}, but same as {@code editedPatron} based on {@link Patron#isSamePatron(Patron)}.
@@ -219,4 +246,11 @@ public interface Model {
      */
     void updateFilteredBookList(Predicate<Book> predicate);
 
+    /**
+     * Updates the filter of the filtered book list to filter by the given {@code predicate}, and orders the
+     * filtered books by the given {@code comparator} until the filter is next updated.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredBookList(Predicate<Book> predicate, Comparator<Book> comparator);
+
 }
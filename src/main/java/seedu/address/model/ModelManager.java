@@ -4,15 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.book.Book;
+import seedu.address.model.book.BookSearchResult;
+import seedu.address.model.book.IndexedBookPredicate;
+import seedu.address.model.patron.IndexedPatronPredicate;
 import seedu.address.model.patron.Patron;
 
 /**
@@ -25,6 +31,7 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Patron> filteredPatrons;
     private final FilteredList<Book> filteredBooks;
+    private final SortedList<Book> sortedBooks;
 
     /**
      * Initializes a ModelManager with the given libTask and userPrefs.
@@ -38,6 +45,7 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPatrons = new FilteredList<>(this.libTask.getPatronList());
         filteredBooks = new FilteredList<>(this.libTask.getBookList());
+        sortedBooks = new SortedList<>(filteredBooks);
     }
 
     public ModelManager() {
@@ -91,6 +99,11 @@ public class ModelManager implements Model {
         return libTask;
     }
 
+    @Override
+    public long getLibTaskVersion() {
+        return libTask.getVersion();
+    }
+
     @Override
     public boolean hasPatron(Patron patron) {
         requireNonNull(patron);
@@ -216,6 +229,23 @@ public class ModelManager implements Model {
         return libTask.hasOverdueBooks(patron);
     }
 
+    @Override
+    public Set<Book> getBooksDueWithin(int days) {
+        return libTask.getBooksDueWithin(days);
+    }
+
+    @Override
+    public BookSearchResult searchBooks(IndexedBookPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        return libTask.searchBooks(predicate, limit);
+    }
+
+    @Override
+    public Set<Patron> getPatronsMatching(IndexedPatronPredicate predicate) {
+        requireNonNull(predicate);
+        return libTask.getPatronsMatching(predicate);
+    }
+
     /**
      * Returns true if this model contains a model that is not the same as {@code oldPatron} based on
      * {@link Patron#equals(Object)}, but same as {@code editedPatron} based on {@link Patron#isSamePatron(Patron)}.
@@ -249,7 +279,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Book> getFilteredBookList() {
-        return filteredBooks;
+        return sortedBooks;
     }
 
     @Override
@@ -262,6 +292,14 @@ public class ModelManager implements Model {
     public void updateFilteredBookList(Predicate<Book> predicate) {
         requireNonNull(predicate);
         filteredBooks.setPredicate(predicate);
+        sortedBooks.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredBookList(Predicate<Book> predicate, Comparator<Book> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredBooks.setPredicate(predicate);
+        sortedBooks.setComparator(comparator);
     }
 
     @Override
@@ -281,7 +319,7 @@ public class ModelManager implements Model {
         return libTask.equals(other.libTask)
                 && userPrefs.equals(other.userPrefs)
                 && filteredPatrons.equals(other.filteredPatrons)
-                && filteredBooks.equals(other.filteredBooks);
+                && sortedBooks.equals(other.sortedBooks);
     }
 
 }
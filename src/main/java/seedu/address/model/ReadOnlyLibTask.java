@@ -19,4 +19,20 @@ public interface ReadOnlyLibTask {
      * Returns an unmodifiable view of the books list.
      */
     ObservableList<Book> getBookList();
+
+    /**
+     * Returns the log of the changes made to the patrons list, as of its current contents.
+     * Data whose changes are not tracked returns a log without any earlier changes.
+     */
+    default ListChangeLog<Patron> getPatronChangeLog() {
+        return new ListChangeLog<>();
+    }
+
+    /**
+     * Returns the log of the changes made to the books list, as of its current contents.
+     * Data whose changes are not tracked returns a log without any earlier changes.
+     */
+    default ListChangeLog<Book> getBookChangeLog() {
+        return new ListChangeLog<>();
+    }
 }
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
 
+import seedu.address.commons.core.InternPool;
+
 /**
  * Represents a Author in LibTask.
  * Guarantees: immutable; is valid as declared in {@link #isValidAuthor(String)}
@@ -23,7 +25,10 @@ public class Author {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} .]*";
 
+    private static final InternPool<Author> POOL = new InternPool<>(Author::new);
+
     public final String fullAuthorName;
+    private final String authorNameForComparison;
 
     /**
      * Constructs a {@code AuthorName}.
@@ -34,6 +39,16 @@ public class Author {
         requireNonNull(name);
         checkArgument(isValidAuthor(name), MESSAGE_CONSTRAINTS);
         fullAuthorName = name;
+        authorNameForComparison = getAuthorNameForComparison();
+    }
+
+    /**
+     * Returns the shared {@code Author} with the given name, so that books by the same author share it.
+     *
+     * @param name A valid author name.
+     */
+    public static Author of(String name) {
+        return POOL.intern(name);
     }
 
     /**
@@ -52,12 +67,12 @@ public class Author {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof Author // instanceof handles nulls
-            && getAuthorNameForComparison().equals(((Author) other).getAuthorNameForComparison())); // state check
+            && authorNameForComparison.equals(((Author) other).authorNameForComparison)); // state check
     }
 
     @Override
     public int hashCode() {
-        return getAuthorNameForComparison().hashCode();
+        return authorNameForComparison.hashCode();
     }
 
     /**
@@ -1,6 +1,7 @@
 package seedu.address.model.book;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
@@ -21,17 +22,32 @@ import seedu.address.model.tag.Tag;
 public class Book {
 
     public static final String TIME_ADDED_MESSAGE_CONSTRAINTS = "Time added should be able to be parsed to long.\n";
+    public static final String COPY_ID_MESSAGE_CONSTRAINTS = "Copy id should be a positive number.\n";
+
+    /** The copy id of a book that has not been added to a {@link BookList} yet. */
+    public static final long NO_COPY_ID = 0;
+
+    // Shared by the many books that are not requested
+    private static final Set<Patron> NO_REQUESTERS = Collections.unmodifiableSet(new HashSet<>());
 
     // Identity fields
     private final BookName bookName;
     private final Isbn isbn;
     private final long timeAdded;
 
-    // Data fields
-    private final List<Author> authors = new ArrayList<Author>();
-    private final Set<Tag> tags = new HashSet<Tag>();
+    // Data fields, where the collections are immutable so that they can be shared between versions of a book
+    private final List<Author> authors;
+    private final Set<Tag> tags;
     private final BookStatus bookStatus;
-    private final Set<Patron> requesters = new HashSet<>();
+    private final Set<Patron> requesters;
+
+    // The authors in no particular order, which is how authors are compared
+    private final Set<Author> authorSet;
+    private final int hash;
+
+    // Identifies the physical copy within its book list, and is kept by every version of the copy.
+    // It is not part of equality, as it tells copies apart rather than describes them.
+    private final long copyId;
 
     /**
      * Every field must be present and not null.
@@ -41,27 +57,56 @@ public class Book {
         requireAllNonNull(bookName, isbn, authors, tags, bookStatus, requesters);
         this.bookName = bookName;
         this.isbn = isbn;
-        this.authors.addAll(authors);
-        this.tags.addAll(tags);
+        this.authors = Collections.unmodifiableList(new ArrayList<>(authors));
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
         this.timeAdded = timeAdded;
         this.bookStatus = bookStatus;
-        this.requesters.addAll(requesters);
+        this.requesters = toImmutableSet(requesters);
+        authorSet = Collections.unmodifiableSet(new HashSet<>(authors));
+        hash = computeHash();
+        copyId = NO_COPY_ID;
     }
 
     /**
      * Constructs a Book that is same as {@code originalBook} in every aspect except book status.
      */
     public Book(Book originalBook, BookStatus updatedBookStatus) {
-        this (originalBook.getBookName(), originalBook.getIsbn(), originalBook.getAuthors(),
-                originalBook.getTags(), originalBook.getTimeAdded(), updatedBookStatus, originalBook.getRequesters());
+        this(originalBook, updatedBookStatus, originalBook.requesters);
+    }
+
+    /**
+     * Constructs a Book that is same as {@code originalBook} in every aspect except book status and requesters.
+     * The authors and tags of {@code originalBook}, and {@code updatedRequesters}, which must be immutable,
+     * are shared instead of copied.
+     */
+    private Book(Book originalBook, BookStatus updatedBookStatus, Set<Patron> updatedRequesters) {
+        this(originalBook, originalBook, updatedBookStatus, updatedRequesters, originalBook.copyId);
+    }
+
+    /**
+     * Constructs a Book with the book name, isbn and authors of {@code detailsSource}, the tags and time added of
+     * {@code copySource}, and the given book status, requesters and copy id.
+     * The authors, tags and {@code requesters}, which must be immutable, are shared instead of copied.
+     */
+    private Book(Book detailsSource, Book copySource, BookStatus bookStatus, Set<Patron> requesters, long copyId) {
+        requireAllNonNull(bookStatus, requesters);
+        this.bookName = detailsSource.bookName;
+        this.isbn = detailsSource.isbn;
+        this.authors = detailsSource.authors;
+        this.tags = copySource.tags;
+        this.timeAdded = copySource.timeAdded;
+        this.bookStatus = bookStatus;
+        this.requesters = requesters;
+        authorSet = detailsSource.authorSet;
+        hash = computeHash();
+        this.copyId = copyId;
     }
 
     /**
      * Returns a Book that is same as {@code originalBook} in every aspect, but with no requesters.
      */
     public Book getBookWithEmptyRequest() {
-        return new Book(getBookName(), getIsbn(), getAuthors(), getTags(), getTimeAdded(), getBookStatus(),
-                new HashSet<>());
+        return new Book(this, bookStatus, NO_REQUESTERS);
     }
 
     /**
@@ -70,8 +115,24 @@ public class Book {
      */
     public Book getConsistentReplacement(Book editedBook) {
         requireNonNull(editedBook);
-        return new Book(editedBook.getBookName(), editedBook.getIsbn(), editedBook.getAuthors(), getTags(),
-                getTimeAdded(), getBookStatus(), getRequesters());
+        return new Book(editedBook, this, bookStatus, requesters, copyId);
+    }
+
+    /**
+     * Returns a Book that is same as this book in every aspect, but with the given copy id.
+     *
+     * @param copyId A valid copy id, as declared in {@link #isValidCopyId(long)}.
+     */
+    public Book withCopyId(long copyId) {
+        checkArgument(isValidCopyId(copyId), COPY_ID_MESSAGE_CONSTRAINTS);
+        return new Book(this, this, bookStatus, requesters, copyId);
+    }
+
+    /**
+     * Returns true if a given number is a valid copy id.
+     */
+    public static boolean isValidCopyId(long test) {
+        return test > NO_COPY_ID;
     }
 
     /**
@@ -106,11 +167,9 @@ public class Book {
      */
     public Book addRequester(Patron requester) {
         requireNonNull(requester);
-        HashSet<Patron> newRequesters = new HashSet<>();
-        newRequesters.addAll(getRequesters());
+        Set<Patron> newRequesters = new HashSet<>(requesters);
         newRequesters.add(requester);
-        return new Book(getBookName(), getIsbn(), getAuthors(), getTags(), getTimeAdded(), getBookStatus(),
-                newRequesters);
+        return new Book(this, bookStatus, Collections.unmodifiableSet(newRequesters));
     }
 
     /**
@@ -138,8 +197,19 @@ public class Book {
         return timeAdded;
     }
 
+    /**
+     * Returns the id of this copy in its book list, or {@link #NO_COPY_ID} if it has not been added to one.
+     */
+    public long getCopyId() {
+        return copyId;
+    }
+
+    public boolean hasCopyId() {
+        return copyId != NO_COPY_ID;
+    }
+
     public List<Author> getAuthors() {
-        return Collections.unmodifiableList(authors);
+        return authors;
     }
 
     /**
@@ -147,7 +217,7 @@ public class Book {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -155,7 +225,7 @@ public class Book {
      * if modification is attempted.
      */
     public Set<Patron> getRequesters() {
-        return Collections.unmodifiableSet(requesters);
+        return requesters;
     }
 
     public BookStatus getBookStatus() {
@@ -225,11 +295,7 @@ public class Book {
      * Authors are considered to be equal based on {@link Author#equals(Object)}
      */
     public boolean hasSameAuthors(Book other) {
-        HashSet<Author> thisAuthors = new HashSet<>();
-        thisAuthors.addAll(authors);
-        HashSet<Author> otherAuthors = new HashSet<>();
-        otherAuthors.addAll(other.authors);
-        return thisAuthors.equals(otherAuthors);
+        return authorSet.equals(other.authorSet);
     }
 
     /**
@@ -270,7 +336,8 @@ public class Book {
         }
 
         Book otherBook = (Book) other;
-        return otherBook.getBookName().equals(getBookName())
+        return otherBook.hash == hash
+                && otherBook.getBookName().equals(getBookName())
                 && hasSameAuthors(otherBook)
                 && otherBook.getTags().equals(getTags())
                 && otherBook.getIsbn().equals(getIsbn())
@@ -281,8 +348,7 @@ public class Book {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(bookName, isbn, authors, tags, timeAdded, bookStatus, requesters);
+        return hash;
     }
 
     @Override
@@ -314,11 +380,24 @@ public class Book {
     private Book updateRequester(Patron oldRequester, Optional<Patron> editedRequester) {
         requireAllNonNull(oldRequester, editedRequester);
         assert isRequestedBy(oldRequester);
-        HashSet<Patron> newRequesters = new HashSet<>();
-        newRequesters.addAll(getRequesters());
+        Set<Patron> newRequesters = new HashSet<>(requesters);
         newRequesters.remove(oldRequester);
         editedRequester.ifPresent(newRequesters::add);
-        return new Book(getBookName(), getIsbn(), getAuthors(), getTags(), getTimeAdded(), getBookStatus(),
-                newRequesters);
+        return new Book(this, bookStatus, toImmutableSet(newRequesters));
+    }
+
+    /**
+     * Returns the hash of this book, which must only be called once all fields are set.
+     * Authors are hashed as a set, as they are compared regardless of order.
+     */
+    private int computeHash() {
+        return Objects.hash(bookName, isbn, authorSet, tags, timeAdded, bookStatus, requesters);
+    }
+
+    /**
+     * Returns an immutable copy of {@code requesters}.
+     */
+    private static Set<Patron> toImmutableSet(Set<Patron> requesters) {
+        return requesters.isEmpty() ? NO_REQUESTERS : Collections.unmodifiableSet(new HashSet<>(requesters));
     }
 }
@@ -1,12 +1,13 @@
 package seedu.address.model.book;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
 
 /**
  * Tests that a {@code Books}'s {@code Author} matches any of the keywords given.
  */
-public class BookAuthorContainsKeywordsPredicate implements Predicate<Book> {
+public class BookAuthorContainsKeywordsPredicate implements IndexedBookPredicate {
     private final List<String> keywords;
 
     public BookAuthorContainsKeywordsPredicate(List<String> keywords) {
@@ -20,6 +21,16 @@ public class BookAuthorContainsKeywordsPredicate implements Predicate<Book> {
                         x.toString().toUpperCase().contains(keywords.toUpperCase())));
     }
 
+    @Override
+    public Stream<Book> getCandidates(BookList bookList) {
+        return keywords.stream().flatMap(keyword -> bookList.getCandidatesContaining(BookSearchField.AUTHOR, keyword));
+    }
+
+    @Override
+    public ToDoubleFunction<Book> getScorer(BookList bookList) {
+        return bookList.getRelevanceScorer(BookSearchField.AUTHOR, keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
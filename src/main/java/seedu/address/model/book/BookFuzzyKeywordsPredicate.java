@@ -0,0 +1,107 @@
+package seedu.address.model.book;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Tests that every one of the keywords given is close to a word of a {@code Book}'s {@link BookSearchField},
+ * ignoring case, so that misspelt keywords still find the books meant. A keyword is close to a word if it is
+ * within {@link #getMaxDistance(String)} edits of it, and books whose words are closer to the keywords are
+ * better matches.
+ */
+public class BookFuzzyKeywordsPredicate implements IndexedBookPredicate {
+
+    /** Marks the start of a query for this predicate in a find command. */
+    public static final String MARKER = "~";
+
+    private final BookSearchField field;
+    private final List<String> keywords;
+
+    /**
+     * Creates a predicate on the values of {@code field} with {@code keywords}, none of which can be empty or
+     * contain whitespace.
+     */
+    public BookFuzzyKeywordsPredicate(BookSearchField field, List<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        checkArgument(!keywords.isEmpty(), "Keywords cannot be empty");
+        checkArgument(keywords.stream().allMatch(keyword -> BookTokenIndex.tokenize(keyword).size() == 1),
+                "Keywords must be single words");
+        this.field = field;
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the number of edits a word can be from {@code keyword} to be close to it, which grows with the
+     * length of {@code keyword} so that short keywords do not match almost every word.
+     */
+    public static int getMaxDistance(String keyword) {
+        if (keyword.length() <= 3) {
+            return 0;
+        } else if (keyword.length() <= 7) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    @Override
+    public boolean test(Book book) {
+        List<String> words = getWords(book);
+        return keywords.stream()
+                .allMatch(keyword -> getDistance(keyword, words) <= getMaxDistance(keyword));
+    }
+
+    @Override
+    public Stream<Book> getCandidates(BookList bookList) {
+        String longestKeyword = keywords.stream().max(Comparator.comparingInt(String::length)).get();
+        return bookList.getCandidatesNear(field, longestKeyword, getMaxDistance(longestKeyword));
+    }
+
+    /**
+     * Returns a function that scores books by the negated total number of edits between the keywords and their
+     * closest words.
+     */
+    @Override
+    public ToDoubleFunction<Book> getScorer(BookList bookList) {
+        return book -> {
+            List<String> words = getWords(book);
+            return -keywords.stream().mapToInt(keyword -> getDistance(keyword, words)).sum();
+        };
+    }
+
+    private List<String> getWords(Book book) {
+        return field.getValues(book).stream()
+                .flatMap(value -> BookTokenIndex.tokenize(value).stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the least number of edits between {@code keyword} and any of {@code words}, capped at one more
+     * than the maximum distance for {@code keyword}.
+     */
+    private static int getDistance(String keyword, List<String> words) {
+        int maxDistance = getMaxDistance(keyword);
+        String upperCaseKeyword = keyword.toUpperCase();
+        return words.stream()
+                .mapToInt(word -> StringUtil.getEditDistance(upperCaseKeyword, word, maxDistance))
+                .min()
+                .orElse(maxDistance + 1);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BookFuzzyKeywordsPredicate // instanceof handles nulls
+                && field == ((BookFuzzyKeywordsPredicate) other).field
+                && keywords.equals(((BookFuzzyKeywordsPredicate) other).keywords)); // state check
+    }
+}
@@ -1,18 +1,32 @@
 package seedu.address.model.book;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ListChange;
+import seedu.address.model.ListChangeLog;
 import seedu.address.model.book.exceptions.BookNotFoundException;
 import seedu.address.model.patron.Patron;
 
@@ -26,6 +40,16 @@ public class BookList implements Iterable<Book> {
     private final ObservableList<Book> internalList = FXCollections.observableArrayList();
     private final ObservableList<Book> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final IsbnIndex isbnIndex = new IsbnIndex();
+    private final BorrowerIndex borrowerIndex = new BorrowerIndex();
+    private final RequesterIndex requesterIndex = new RequesterIndex();
+    private final DueDateIndex dueDateIndex = new DueDateIndex();
+    private final Map<BookSearchField, BookTokenIndex> tokenIndexes = createTokenIndexes();
+    // Position of each copy in the backing list, by its copy id, which is unique within this list
+    private final Map<Long, Integer> positionsByCopyId = new HashMap<>();
+    private long nextCopyId = 1;
+    private long version = 0;
+    private ListChangeLog<Book> changeLog = new ListChangeLog<>();
 
     /**
      * Returns true if the list contains an equivalent book as the given argument.
@@ -35,29 +59,40 @@ public class BookList implements Iterable<Book> {
      */
     public boolean contains(Book toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameBook);
+        return isbnIndex.hasIsbn(toCheck.getIsbn());
     }
 
     /**
      * Adds a book to the list.
+     * The book keeps its copy id if it has one that is not used by another copy in the list, and is otherwise
+     * added with a new copy id.
      */
     public void add(Book book) {
         requireNonNull(book);
-        internalList.add(book);
+        Book copy = withUniqueCopyId(book);
+        positionsByCopyId.put(copy.getCopyId(), internalList.size());
+        internalList.add(copy);
+        indexBook(copy);
+        changeLog = changeLog.append(ListChange.insert(internalList.size() - 1, copy));
     }
 
     /**
-     * Replaces the book {@code target} in the list with {@code editedBook}.
+     * Replaces the book {@code target} in the list with {@code editedBook}, which takes the copy id of the copy
+     * it replaces.
      * {@code target} must exist in the list.
      */
     public void setBook(Book target, Book editedBook) {
         requireAllNonNull(target, editedBook);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new BookNotFoundException();
         }
-        internalList.set(index, editedBook);
+        long copyId = internalList.get(index).getCopyId();
+        Book copy = editedBook.getCopyId() == copyId ? editedBook : editedBook.withCopyId(copyId);
+        Book replacedBook = internalList.set(index, copy);
+        reindexBook(replacedBook, copy);
+        changeLog = changeLog.append(ListChange.set(index, copy));
     }
 
     /**
@@ -71,8 +106,8 @@ public class BookList implements Iterable<Book> {
         // setBook must be done first, otherwise tags will not be updated
         setBook(target, editedBook);
         boolean hasModifiedOtherBooks = false;
-        for (Book book : internalList) {
-            if (!book.hasSameIsbn(target) || book.equals(editedBook)) {
+        for (Book book : copiesOf(target)) {
+            if (book.equals(editedBook)) {
                 continue;
             }
             if (!book.hasSameIsbn(editedBook) || !book.hasSameName(editedBook) || !book.hasSameAuthors(editedBook)) {
@@ -104,7 +139,7 @@ public class BookList implements Iterable<Book> {
     public String updateBookAfterPatronDelete(Patron deletedPatron) {
         requireNonNull(deletedPatron);
         boolean hasModifiedSomeBooks = false;
-        for (Book book : internalList) {
+        for (Book book : requestedCopiesOf(deletedPatron)) {
             if (!book.isRequestedBy(deletedPatron)) {
                 continue;
             }
@@ -123,10 +158,7 @@ public class BookList implements Iterable<Book> {
      */
     public void addRequest(Book bookToRequest, Patron requester) {
         requireAllNonNull(bookToRequest, requester);
-        for (Book book : internalList) {
-            if (!book.hasSameIsbn(bookToRequest)) {
-                continue;
-            }
+        for (Book book : copiesOf(bookToRequest)) {
             Book updatedBook = book.addRequester(requester);
             setBook(book, updatedBook);
         }
@@ -137,7 +169,7 @@ public class BookList implements Iterable<Book> {
      */
     public boolean hasAvailableCopy(Book book) {
         requireNonNull(book);
-        return internalList.stream().anyMatch(b -> b.hasSameIsbn(book) && b.isAvailable());
+        return isbnIndex.countAvailableCopies(book.getIsbn()) > 0;
     }
 
     /**
@@ -146,7 +178,8 @@ public class BookList implements Iterable<Book> {
      */
     public boolean isBorrowing(Patron patron, Book book) {
         requireAllNonNull(patron, book);
-        return internalList.stream().anyMatch(b -> b.hasSameIsbn(book) && b.isBorrowedBy(patron));
+        return borrowerIndex.getLoans(patron).stream()
+                .anyMatch(borrowedBook -> borrowedBook.hasSameIsbn(book) && borrowedBook.isBorrowedBy(patron));
     }
 
     /**
@@ -155,23 +188,53 @@ public class BookList implements Iterable<Book> {
      */
     public void remove(Book toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new BookNotFoundException();
         }
+        Book removedBook = internalList.remove(index);
+        positionsByCopyId.remove(removedBook.getCopyId());
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByCopyId.put(internalList.get(i).getCopyId(), i);
+        }
+        unindexBook(removedBook);
+        changeLog = changeLog.append(ListChange.remove(index));
     }
 
     public void setBooks(BookList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setBooks(replacement.internalList, replacement.changeLog);
     }
 
     /**
      * Replaces the contents of this list with {@code books}.
      * {@code books} must not contain duplicate books.
+     * Books keep their copy ids as in {@link #add(Book)}.
      */
     public void setBooks(List<Book> books) {
+        setBooks(books, new ListChangeLog<>());
+    }
+
+    /**
+     * Replaces the contents of this list with {@code books}, which are the contents of a list as of
+     * {@code changeLog}, so that the changes made to this list from now on carry on from {@code changeLog}.
+     * The log is only carried on if every book keeps its copy id, as the contents would differ otherwise.
+     */
+    public void setBooks(List<Book> books, ListChangeLog<Book> changeLog) {
         requireAllNonNull(books);
-        internalList.setAll(books);
+        requireNonNull(changeLog);
+        positionsByCopyId.clear();
+        List<Book> copies = new ArrayList<>(books.size());
+        boolean isEveryCopyIdKept = true;
+        for (Book book : books) {
+            Book copy = withUniqueCopyId(book);
+            positionsByCopyId.put(copy.getCopyId(), copies.size());
+            copies.add(copy);
+            isEveryCopyIdKept &= copy == book;
+        }
+        internalList.setAll(copies);
+        reindexAllBooks();
+        this.changeLog = isEveryCopyIdKept ? changeLog : new ListChangeLog<>();
     }
 
     /**
@@ -181,7 +244,7 @@ public class BookList implements Iterable<Book> {
      */
     public List<Book> returnAllBorrowedBooks(Patron borrower) {
         ArrayList<Book> returnedBooks = new ArrayList<>();
-        for (Book book : internalList) {
+        for (Book book : loansOf(borrower)) {
             if (!book.isBorrowedBy(borrower)) {
                 continue;
             }
@@ -197,15 +260,15 @@ public class BookList implements Iterable<Book> {
      * different set of authors as {@code bookToCheck}.
      */
     public boolean hasSameIsbnDiffAuthorsOrName(Book bookToCheck) {
-        return internalList.stream().anyMatch(book -> book.hasSameIsbn(bookToCheck)
-                && (!book.hasSameAuthors(bookToCheck) || !book.hasSameName(bookToCheck)));
+        return isbnIndex.getCopies(bookToCheck.getIsbn()).stream()
+                .anyMatch(book -> !book.hasSameAuthors(bookToCheck) || !book.hasSameName(bookToCheck));
     }
 
     /**
      * Returns true if there is some book in this book list with the same isbn as {@code bookToCheck}.
      */
     public boolean hasSameIsbn(Book bookToCheck) {
-        return internalList.stream().anyMatch(book -> book.hasSameIsbn(bookToCheck));
+        return isbnIndex.hasIsbn(bookToCheck.getIsbn());
     }
 
     /**
@@ -213,7 +276,7 @@ public class BookList implements Iterable<Book> {
      */
     public int getMaxRequests(Book bookToRequest) {
         requireNonNull(bookToRequest);
-        return (int) internalList.stream().filter(book -> book.hasSameIsbn(bookToRequest)).count();
+        return isbnIndex.countCopies(bookToRequest.getIsbn());
     }
 
     /**
@@ -240,7 +303,7 @@ public class BookList implements Iterable<Book> {
      */
     public boolean isBorrowingSomeBook(Patron borrower) {
         requireNonNull(borrower);
-        return internalList.stream().anyMatch(book -> book.isBorrowedBy(borrower));
+        return borrowerIndex.getLoans(borrower).stream().anyMatch(book -> book.isBorrowedBy(borrower));
     }
 
     /**
@@ -248,7 +311,31 @@ public class BookList implements Iterable<Book> {
      */
     public boolean hasOverdueBooks(Patron patron) {
         requireNonNull(patron);
-        return internalList.stream().anyMatch(book -> book.isBorrowedBy(patron) && book.getBookStatus().isOverdue());
+        return borrowerIndex.getLoans(patron).stream()
+                .anyMatch(book -> book.isBorrowedBy(patron) && book.getBookStatus().isOverdue());
+    }
+
+    /**
+     * Returns the set of borrowed books in this list that are overdue.
+     * Membership in the returned set is by identity, so it only contains the exact book objects in this list.
+     */
+    public Set<Book> getOverdueBooks() {
+        Set<Book> overdueBooks = Collections.newSetFromMap(new IdentityHashMap<>());
+        dueDateIndex.getBooksDueBefore(BookStatus.getCurrentDate().toEpochDay()).forEach(overdueBooks::add);
+        return overdueBooks;
+    }
+
+    /**
+     * Returns the set of borrowed books in this list that are due from today to {@code days} days later,
+     * both inclusive. {@code days} must not be negative.
+     * Membership in the returned set is by identity, so it only contains the exact book objects in this list.
+     */
+    public Set<Book> getBooksDueWithin(int days) {
+        checkArgument(days >= 0);
+        long currentEpochDay = BookStatus.getCurrentDate().toEpochDay();
+        Set<Book> dueBooks = Collections.newSetFromMap(new IdentityHashMap<>());
+        dueDateIndex.getBooksDueBetween(currentEpochDay, currentEpochDay + days).forEach(dueBooks::add);
+        return dueBooks;
     }
 
     /**
@@ -261,12 +348,133 @@ public class BookList implements Iterable<Book> {
      */
     public void borrowBook(Patron borrower, Book bookToBorrow, String returnDate) {
         requireAllNonNull(borrower, bookToBorrow, returnDate);
-        BookStatus borrowedStatus = new BookStatus(BookStatusType.BORROWED,
-                Optional.of(borrower), Optional.of(BookStatus.getCurrentDateString()), Optional.of(returnDate));
+        LocalDate parsedReturnDate = BookStatus.parseDate(returnDate)
+                .orElseThrow(() -> new IllegalArgumentException(BookStatus.MESSAGE_CONSTRAINTS));
+        BookStatus borrowedStatus = BookStatus.createBorrowedBookStatus(borrower, BookStatus.getCurrentDate(),
+                parsedReturnDate);
         Book updatedBook = new Book(bookToBorrow, borrowedStatus);
         setBook(bookToBorrow, updatedBook);
     }
 
+    /**
+     * Returns the {@code limit} best books in this list that satisfy {@code predicate}, which are only looked for
+     * among the candidates it finds from the indexes of this list. Books with higher scores for {@code predicate}
+     * are better, and books with equal scores are in the order of this list.
+     * Only the best books found so far are kept in a heap, so the matches are never all sorted.
+     */
+    public BookSearchResult searchBooks(IndexedBookPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        checkArgument(limit > 0, "Limit must be positive");
+        Set<Book> matchingBooks = Collections.newSetFromMap(new IdentityHashMap<>());
+        predicate.getCandidates(this).forEach(book -> {
+            if (!matchingBooks.contains(book) && predicate.test(book)) {
+                matchingBooks.add(book);
+            }
+        });
+
+        ToDoubleFunction<Book> scorer = predicate.getScorer(this);
+        Map<Book, Double> scores = new IdentityHashMap<>();
+        Comparator<Book> ranking = Comparator.<Book>comparingDouble(scores::get).reversed()
+                .thenComparingInt(book -> positionsByCopyId.get(book.getCopyId()));
+        PriorityQueue<Book> topBooks = new PriorityQueue<>(ranking.reversed());
+        for (Book book : matchingBooks) {
+            scores.put(book, scorer.applyAsDouble(book));
+            topBooks.add(book);
+            if (topBooks.size() > limit) {
+                scores.remove(topBooks.poll());
+            }
+        }
+
+        List<Book> rankedBooks = new ArrayList<>(topBooks);
+        rankedBooks.sort(ranking);
+        return new BookSearchResult(rankedBooks, matchingBooks.size());
+    }
+
+    /**
+     * Returns the books in this list that may have a value of {@code field} containing {@code keyword},
+     * ignoring case. Only the copies with a token containing the longest search term of {@code keyword} can
+     * contain it, and every book is returned if it has no search terms.
+     */
+    Stream<Book> getCandidatesContaining(BookSearchField field, String keyword) {
+        requireAllNonNull(field, keyword);
+        return getCopyIdsContaining(field, keyword).map(this::getBooksWithCopyIds).orElseGet(internalList::stream);
+    }
+
+    /**
+     * Returns the number of books in this list that {@link #getCandidatesContaining(BookSearchField, String)}
+     * returns for {@code field} and {@code keyword}.
+     */
+    int countCandidatesContaining(BookSearchField field, String keyword) {
+        requireAllNonNull(field, keyword);
+        return getCopyIdsContaining(field, keyword).map(Set::size).orElse(internalList.size());
+    }
+
+    /**
+     * Returns the books in this list with an isbn whose digits start with {@code digits}.
+     */
+    Stream<Book> getBooksWithIsbnStartingWith(String digits) {
+        return isbnIndex.getCopiesWithIsbnStartingWith(digits);
+    }
+
+    /**
+     * Returns the number of books in this list with an isbn whose digits start with {@code digits}.
+     */
+    int countBooksWithIsbnStartingWith(String digits) {
+        return isbnIndex.countCopiesWithIsbnStartingWith(digits);
+    }
+
+    /**
+     * Returns the borrowed books in this list.
+     */
+    Stream<Book> getBorrowedBooks() {
+        return dueDateIndex.getBooks();
+    }
+
+    /**
+     * Returns the number of borrowed books in this list.
+     */
+    int countBorrowedBooks() {
+        return dueDateIndex.size();
+    }
+
+    /**
+     * Returns a function that scores how relevant books of this list are to {@code keywords} by the BM25 ranking
+     * of their values of {@code field} for the search terms of the keywords. The statistics of the list that the
+     * ranking uses are taken when this is called, so the function should not be used after the list changes.
+     */
+    ToDoubleFunction<Book> getRelevanceScorer(BookSearchField field, List<String> keywords) {
+        requireAllNonNull(field, keywords);
+        List<String> terms = keywords.stream()
+                .flatMap(keyword -> getSearchTerms(field, keyword).stream())
+                .collect(Collectors.toList());
+        return tokenIndexes.get(field).getRelevanceScorer(terms, internalList.size());
+    }
+
+    /**
+     * Returns the books in this list with a value of {@code field} that has a word within an edit distance of
+     * {@code maxDistance} from {@code word}, ignoring case.
+     */
+    Stream<Book> getCandidatesNear(BookSearchField field, String word, int maxDistance) {
+        requireAllNonNull(field, word);
+        return getBooksWithCopyIds(tokenIndexes.get(field).getDistancesByCopyId(word.toUpperCase(), maxDistance)
+                .keySet());
+    }
+
+    /**
+     * Returns the number of modifications made to this list so far.
+     * The version only ever increases, so an unchanged version means that the list has not been modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the log of the changes made to this list, as of its current contents.
+     */
+    public ListChangeLog<Book> getChangeLog() {
+        return changeLog;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -294,8 +502,8 @@ public class BookList implements Iterable<Book> {
     private String deleteRequestSingleBook(Book bookToDelete) {
         StringBuilder builder = new StringBuilder();
         boolean hasNotified = false; // flag to prevent appending the same notification many times
-        for (Book book : internalList) {
-            if (!book.hasSameIsbn(bookToDelete) || book.getRequesters().isEmpty()) {
+        for (Book book : copiesOf(bookToDelete)) {
+            if (book.getRequesters().isEmpty()) {
                 continue;
             }
             if (!hasNotified) {
@@ -310,10 +518,152 @@ public class BookList implements Iterable<Book> {
         return builder.toString();
     }
 
+    /**
+     * Returns a snapshot of all copies with the same isbn as {@code book}, in the order they were indexed.
+     * The snapshot is safe to iterate while the copies are being replaced.
+     */
+    private List<Book> copiesOf(Book book) {
+        return new ArrayList<>(isbnIndex.getCopies(book.getIsbn()));
+    }
+
+    /**
+     * Returns a snapshot of all copies currently borrowed by a patron with the same id as {@code patron}.
+     * The snapshot is safe to iterate while the copies are being replaced.
+     */
+    private List<Book> loansOf(Patron patron) {
+        return new ArrayList<>(borrowerIndex.getLoans(patron));
+    }
+
+    /**
+     * Returns a snapshot of all copies with the same isbn as some book requested by a patron with the same id as
+     * {@code patron}. The snapshot is safe to iterate while the copies are being replaced.
+     */
+    private List<Book> requestedCopiesOf(Patron patron) {
+        List<Book> requestedCopies = new ArrayList<>();
+        requesterIndex.getRequestedIsbns(patron).forEach(isbn -> requestedCopies.addAll(isbnIndex.getCopies(isbn)));
+        return requestedCopies;
+    }
+
+    /**
+     * Adds {@code book} to all secondary indexes of this list.
+     * Every modification of the backing list goes through these indexing methods, which also update the version.
+     */
+    private void indexBook(Book book) {
+        version++;
+        isbnIndex.add(book);
+        borrowerIndex.add(book);
+        requesterIndex.add(book);
+        dueDateIndex.add(book);
+        tokenIndexes.values().forEach(tokenIndex -> tokenIndex.add(book));
+    }
+
+    /**
+     * Removes {@code book} from all secondary indexes of this list.
+     */
+    private void unindexBook(Book book) {
+        version++;
+        isbnIndex.remove(book);
+        borrowerIndex.remove(book);
+        requesterIndex.remove(book);
+        dueDateIndex.remove(book);
+        tokenIndexes.values().forEach(tokenIndex -> tokenIndex.remove(book));
+    }
+
+    /**
+     * Replaces {@code oldBook} with {@code newBook} in all secondary indexes of this list.
+     */
+    private void reindexBook(Book oldBook, Book newBook) {
+        version++;
+        isbnIndex.replace(oldBook, newBook);
+        borrowerIndex.remove(oldBook);
+        borrowerIndex.add(newBook);
+        requesterIndex.remove(oldBook);
+        requesterIndex.add(newBook);
+        dueDateIndex.remove(oldBook);
+        dueDateIndex.add(newBook);
+        tokenIndexes.values().forEach(tokenIndex -> tokenIndex.replace(oldBook, newBook));
+    }
+
+    /**
+     * Returns the position of {@code book} in the list, or -1 if it is not in the list.
+     * Books passed in are usually the copies in the list, so they are first looked up by their copy id.
+     * Books without a copy id, and outdated versions of a copy, are looked for by equality instead.
+     */
+    private int indexOf(Book book) {
+        Integer position = positionsByCopyId.get(book.getCopyId());
+        if (position != null && internalList.get(position).equals(book)) {
+            return position;
+        }
+        return internalList.indexOf(book);
+    }
+
+    /**
+     * Returns {@code book} if it has a copy id that is not used by a copy in {@link #positionsByCopyId},
+     * and otherwise the same book with a new copy id.
+     */
+    private Book withUniqueCopyId(Book book) {
+        if (book.hasCopyId() && !positionsByCopyId.containsKey(book.getCopyId())) {
+            nextCopyId = Math.max(nextCopyId, book.getCopyId() + 1);
+            return book;
+        }
+        return book.withCopyId(nextCopyId++);
+    }
+
+    /**
+     * Rebuilds all secondary indexes of this list from the backing list.
+     */
+    private void reindexAllBooks() {
+        version++;
+        isbnIndex.clear();
+        borrowerIndex.clear();
+        requesterIndex.clear();
+        dueDateIndex.clear();
+        tokenIndexes.values().forEach(BookTokenIndex::clear);
+        internalList.forEach(this::indexBook);
+    }
+
+    /**
+     * Returns the non-empty, upper-cased, whitespace-separated parts of {@code keyword} to look up in the index of
+     * {@code field}. Tags are matched with the brackets of {@link seedu.address.model.tag.Tag#toString()} around
+     * their names, so the brackets are left out of the parts of tag keywords.
+     */
+    private static List<String> getSearchTerms(BookSearchField field, String keyword) {
+        return BookTokenIndex.tokenize(keyword).stream()
+                .map(part -> field == BookSearchField.TAG ? part.replaceAll("^\\[|]$", "") : part)
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the copy ids of the copies with a value of {@code field} that has a token containing the longest
+     * search term of {@code keyword}, or an empty {@code Optional} if {@code keyword} has no search terms.
+     */
+    private Optional<Set<Long>> getCopyIdsContaining(BookSearchField field, String keyword) {
+        return getSearchTerms(field, keyword).stream()
+                .max(Comparator.comparingInt(String::length))
+                .map(term -> tokenIndexes.get(field).getCopyIdsContaining(term));
+    }
+
+    private Stream<Book> getBooksWithCopyIds(Set<Long> copyIds) {
+        return copyIds.stream().map(this::getBookWithCopyId);
+    }
+
+    private Book getBookWithCopyId(long copyId) {
+        return internalList.get(positionsByCopyId.get(copyId));
+    }
+
+    private static Map<BookSearchField, BookTokenIndex> createTokenIndexes() {
+        Map<BookSearchField, BookTokenIndex> tokenIndexes = new EnumMap<>(BookSearchField.class);
+        for (BookSearchField field : BookSearchField.values()) {
+            tokenIndexes.put(field, new BookTokenIndex(field));
+        }
+        return tokenIndexes;
+    }
+
     private String updatePatronBorrowedBooks(Patron target, Patron editedPatron) {
         requireAllNonNull(target, editedPatron);
         boolean hasModifiedSomeBooks = false;
-        for (Book book : internalList) {
+        for (Book book : loansOf(target)) {
             if (!book.isBorrowedBy(target)) {
                 continue;
             }
@@ -329,7 +679,7 @@ public class BookList implements Iterable<Book> {
     private String updatePatronRequestedBooks(Patron target, Patron editedPatron) {
         requireAllNonNull(target, editedPatron);
         boolean hasModifiedSomeBooks = false;
-        for (Book book : internalList) {
+        for (Book book : requestedCopiesOf(target)) {
             if (!book.isRequestedBy(target)) {
                 continue;
             }
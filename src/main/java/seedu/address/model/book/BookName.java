@@ -23,6 +23,7 @@ public class BookName {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} \\'\\:]*";
 
     public final String fullBookName;
+    private final String bookNameForComparison;
 
     /**
      * Constructs a {@code BookName}.
@@ -33,6 +34,7 @@ public class BookName {
         requireNonNull(bookname);
         checkArgument(isValidBookName(bookname), MESSAGE_CONSTRAINTS);
         fullBookName = bookname;
+        bookNameForComparison = getBookNameForComparison();
     }
 
     /**
@@ -51,12 +53,12 @@ public class BookName {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof BookName) //instanceof handle nulls
-                && getBookNameForComparison().equals(((BookName) other).getBookNameForComparison());
+                && bookNameForComparison.equals(((BookName) other).bookNameForComparison);
     }
 
     @Override
     public int hashCode() {
-        return getBookNameForComparison().hashCode();
+        return bookNameForComparison.hashCode();
     }
 
     /**
@@ -1,13 +1,14 @@
 package seedu.address.model.book;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
 
 
 /**
  * Tests that a {@code Book}'s {@code BookName} matches any of the keywords given.
  */
-public class BookNameContainsKeywordsPredicate implements Predicate<Book> {
+public class BookNameContainsKeywordsPredicate implements IndexedBookPredicate {
     private final List<String> keywords;
 
     public BookNameContainsKeywordsPredicate(List<String> keywords) {
@@ -20,6 +21,16 @@ public class BookNameContainsKeywordsPredicate implements Predicate<Book> {
                 .anyMatch(keyword -> book.getBookName().toString().toUpperCase().contains(keyword.toUpperCase()));
     }
 
+    @Override
+    public Stream<Book> getCandidates(BookList bookList) {
+        return keywords.stream().flatMap(keyword -> bookList.getCandidatesContaining(BookSearchField.NAME, keyword));
+    }
+
+    @Override
+    public ToDoubleFunction<Book> getScorer(BookList bookList) {
+        return bookList.getRelevanceScorer(BookSearchField.NAME, keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,399 @@
+package seedu.address.model.book;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * A boolean query on books, built from terms on the name, authors, tags, isbn and status of a book that are
+ * combined with AND, OR and NOT.
+ *
+ * The matches of a query in a {@link BookList} are found from the indexes of the list instead of by testing the
+ * query on every book. Each query estimates how many books it can match from the sizes of the posting lists it
+ * would read. A conjunction reads only the postings of its most selective part, and tests its other parts on them
+ * from the most to the least selective, so it costs about as much as its smallest posting list.
+ */
+public abstract class BookQuery implements IndexedBookPredicate {
+
+    public static final String MESSAGE_CONSTRAINTS = "A query is made of terms combined with AND, OR, NOT "
+            + "and brackets. A term is one of name:KEYWORD, author:KEYWORD, tag:KEYWORD, isbn:DIGITS, "
+            + "available, borrowed or overdue, and keywords with spaces must be quoted.\n"
+            + "Example: tag:ComputerScience AND available AND NOT (author:Cormen OR name:\"Data Structures\")";
+
+    /**
+     * A status of a book that can be queried.
+     */
+    public enum Status {
+        AVAILABLE, BORROWED, OVERDUE
+    }
+
+    /**
+     * Returns a query for books with a name containing {@code keyword}, ignoring case.
+     */
+    public static BookQuery nameContains(String keyword) {
+        return new FieldQuery(BookSearchField.NAME, keyword);
+    }
+
+    /**
+     * Returns a query for books with an author containing {@code keyword}, ignoring case.
+     */
+    public static BookQuery authorContains(String keyword) {
+        return new FieldQuery(BookSearchField.AUTHOR, keyword);
+    }
+
+    /**
+     * Returns a query for books with a tag containing {@code keyword}, ignoring case.
+     */
+    public static BookQuery tagContains(String keyword) {
+        return new FieldQuery(BookSearchField.TAG, keyword);
+    }
+
+    /**
+     * Returns a query for books with an isbn whose digits start with {@code digits}, which must all be digits.
+     */
+    public static BookQuery isbnStartsWith(String digits) {
+        return new IsbnQuery(digits);
+    }
+
+    /**
+     * Returns a query for books with {@code status}.
+     */
+    public static BookQuery hasStatus(Status status) {
+        return new StatusQuery(status);
+    }
+
+    /**
+     * Returns a query for borrowed books that are due from today to {@code days} days later, both inclusive,
+     * where today is the day the query is tested on. {@code days} must not be negative.
+     */
+    public static BookQuery isDueWithin(int days) {
+        return new DueWithinQuery(days);
+    }
+
+    /**
+     * Returns a query for books that match all of {@code queries}.
+     */
+    public static BookQuery and(List<BookQuery> queries) {
+        return new AndQuery(queries);
+    }
+
+    /**
+     * Returns a query for books that match any of {@code queries}.
+     */
+    public static BookQuery or(List<BookQuery> queries) {
+        return new OrQuery(queries);
+    }
+
+    /**
+     * Returns a query for books that do not match {@code query}.
+     */
+    public static BookQuery not(BookQuery query) {
+        return new NotQuery(query);
+    }
+
+    /**
+     * Returns an upper bound of the number of books in {@code bookList} that match this query, which is the number
+     * of candidates that {@link #getCandidates(BookList)} returns for it.
+     */
+    abstract int estimateMatchCount(BookList bookList);
+
+    /**
+     * A query for books with a value of a {@link BookSearchField} containing a keyword.
+     */
+    private static class FieldQuery extends BookQuery {
+        private final BookSearchField field;
+        private final String keyword;
+
+        private FieldQuery(BookSearchField field, String keyword) {
+            requireAllNonNull(field, keyword);
+            this.field = field;
+            this.keyword = keyword.toUpperCase();
+        }
+
+        @Override
+        public boolean test(Book book) {
+            return field.getValues(book).stream().anyMatch(value -> value.toUpperCase().contains(keyword));
+        }
+
+        @Override
+        public Stream<Book> getCandidates(BookList bookList) {
+            return bookList.getCandidatesContaining(field, keyword);
+        }
+
+        @Override
+        int estimateMatchCount(BookList bookList) {
+            return bookList.countCandidatesContaining(field, keyword);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof FieldQuery // instanceof handles nulls
+                    && field == ((FieldQuery) other).field
+                    && keyword.equals(((FieldQuery) other).keyword)); // state check
+        }
+    }
+
+    /**
+     * A query for books with an isbn starting with some digits.
+     */
+    private static class IsbnQuery extends BookQuery {
+        private final String digits;
+
+        private IsbnQuery(String digits) {
+            requireNonNull(digits);
+            checkArgument(digits.chars().allMatch(Character::isDigit), "Isbn prefix must only have digits");
+            this.digits = digits;
+        }
+
+        @Override
+        public boolean test(Book book) {
+            return book.getIsbn().toString().startsWith(digits);
+        }
+
+        @Override
+        public Stream<Book> getCandidates(BookList bookList) {
+            return bookList.getBooksWithIsbnStartingWith(digits);
+        }
+
+        @Override
+        int estimateMatchCount(BookList bookList) {
+            return bookList.countBooksWithIsbnStartingWith(digits);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IsbnQuery // instanceof handles nulls
+                    && digits.equals(((IsbnQuery) other).digits)); // state check
+        }
+    }
+
+    /**
+     * A query for books with a status.
+     * Available books are not indexed, so they are found among all books.
+     */
+    private static class StatusQuery extends BookQuery {
+        private final Status status;
+
+        private StatusQuery(Status status) {
+            requireNonNull(status);
+            this.status = status;
+        }
+
+        @Override
+        public boolean test(Book book) {
+            switch (status) {
+            case AVAILABLE:
+                return book.isAvailable();
+            case BORROWED:
+                return book.isBorrowed();
+            case OVERDUE:
+                return book.isBorrowed() && book.isOverdue();
+            default:
+                throw new AssertionError("Unknown status: " + status);
+            }
+        }
+
+        @Override
+        public Stream<Book> getCandidates(BookList bookList) {
+            switch (status) {
+            case AVAILABLE:
+                return bookList.asUnmodifiableObservableList().stream().filter(Book::isAvailable);
+            case BORROWED:
+                return bookList.getBorrowedBooks();
+            case OVERDUE:
+                return bookList.getOverdueBooks().stream();
+            default:
+                throw new AssertionError("Unknown status: " + status);
+            }
+        }
+
+        @Override
+        int estimateMatchCount(BookList bookList) {
+            switch (status) {
+            case AVAILABLE:
+                return bookList.asUnmodifiableObservableList().size() - bookList.countBorrowedBooks();
+            case BORROWED:
+                return bookList.countBorrowedBooks();
+            case OVERDUE:
+                return bookList.getOverdueBooks().size();
+            default:
+                throw new AssertionError("Unknown status: " + status);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof StatusQuery // instanceof handles nulls
+                    && status == ((StatusQuery) other).status); // state check
+        }
+    }
+
+    /**
+     * A query for borrowed books with a return date from today to a number of days later.
+     */
+    private static class DueWithinQuery extends BookQuery {
+        private final int days;
+
+        private DueWithinQuery(int days) {
+            checkArgument(days >= 0, "Days cannot be negative");
+            this.days = days;
+        }
+
+        @Override
+        public boolean test(Book book) {
+            if (!book.isBorrowed()) {
+                return false;
+            }
+            long currentEpochDay = BookStatus.getCurrentDate().toEpochDay();
+            long returnEpochDay = book.getBookStatus().getReturnEpochDay();
+            return currentEpochDay <= returnEpochDay && returnEpochDay <= currentEpochDay + days;
+        }
+
+        @Override
+        public Stream<Book> getCandidates(BookList bookList) {
+            return bookList.getBooksDueWithin(days).stream();
+        }
+
+        @Override
+        int estimateMatchCount(BookList bookList) {
+            return bookList.getBooksDueWithin(days).size();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof DueWithinQuery // instanceof handles nulls
+                    && days == ((DueWithinQuery) other).days); // state check
+        }
+    }
+
+    /**
+     * A query for books that match all of its parts.
+     */
+    private static class AndQuery extends BookQuery {
+        private final List<BookQuery> queries;
+
+        private AndQuery(List<BookQuery> queries) {
+            requireNonNull(queries);
+            checkArgument(!queries.isEmpty(), "Queries cannot be empty");
+            this.queries = new ArrayList<>(queries);
+        }
+
+        @Override
+        public boolean test(Book book) {
+            return queries.stream().allMatch(query -> query.test(book));
+        }
+
+        /**
+         * Returns the candidates of the most selective part of this query that match all the other parts, which
+         * are tested on each candidate from the most to the least selective. Negated parts are estimated to match
+         * every book, so they are tested last.
+         */
+        @Override
+        public Stream<Book> getCandidates(BookList bookList) {
+            Map<BookQuery, Integer> estimates = new IdentityHashMap<>();
+            for (BookQuery query : queries) {
+                estimates.put(query, query.estimateMatchCount(bookList));
+            }
+            List<BookQuery> plan = new ArrayList<>(queries);
+            plan.sort(Comparator.comparing(estimates::get));
+            BookQuery mostSelectiveQuery = plan.get(0);
+            List<BookQuery> remainingQueries = plan.subList(1, plan.size());
+            return mostSelectiveQuery.getCandidates(bookList)
+                    .filter(book -> remainingQueries.stream().allMatch(query -> query.test(book)));
+        }
+
+        @Override
+        int estimateMatchCount(BookList bookList) {
+            return queries.stream().mapToInt(query -> query.estimateMatchCount(bookList)).min().getAsInt();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof AndQuery // instanceof handles nulls
+                    && queries.equals(((AndQuery) other).queries)); // state check
+        }
+    }
+
+    /**
+     * A query for books that match any of its parts.
+     */
+    private static class OrQuery extends BookQuery {
+        private final List<BookQuery> queries;
+
+        private OrQuery(List<BookQuery> queries) {
+            requireNonNull(queries);
+            checkArgument(!queries.isEmpty(), "Queries cannot be empty");
+            this.queries = new ArrayList<>(queries);
+        }
+
+        @Override
+        public boolean test(Book book) {
+            return queries.stream().anyMatch(query -> query.test(book));
+        }
+
+        @Override
+        public Stream<Book> getCandidates(BookList bookList) {
+            return queries.stream().flatMap(query -> query.getCandidates(bookList));
+        }
+
+        @Override
+        int estimateMatchCount(BookList bookList) {
+            long total = queries.stream().mapToLong(query -> query.estimateMatchCount(bookList)).sum();
+            return (int) Math.min(total, bookList.asUnmodifiableObservableList().size());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof OrQuery // instanceof handles nulls
+                    && queries.equals(((OrQuery) other).queries)); // state check
+        }
+    }
+
+    /**
+     * A query for books that do not match its part.
+     * The books that do not match a query are not indexed, so they are found among all books.
+     */
+    private static class NotQuery extends BookQuery {
+        private final BookQuery query;
+
+        private NotQuery(BookQuery query) {
+            requireNonNull(query);
+            this.query = query;
+        }
+
+        @Override
+        public boolean test(Book book) {
+            return !query.test(book);
+        }
+
+        @Override
+        public Stream<Book> getCandidates(BookList bookList) {
+            return bookList.asUnmodifiableObservableList().stream();
+        }
+
+        @Override
+        int estimateMatchCount(BookList bookList) {
+            return bookList.asUnmodifiableObservableList().size();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof NotQuery // instanceof handles nulls
+                    && query.equals(((NotQuery) other).query)); // state check
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.model.book;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A field of a {@code Book} that books can be searched by.
+ */
+public enum BookSearchField {
+    NAME,
+    AUTHOR,
+    TAG;
+
+    /**
+     * Returns the values of this field in {@code book}.
+     */
+    public List<String> getValues(Book book) {
+        switch (this) {
+        case NAME:
+            return List.of(book.getBookName().fullBookName);
+        case AUTHOR:
+            return book.getAuthors().stream().map(author -> author.fullAuthorName).collect(Collectors.toList());
+        case TAG:
+            return book.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList());
+        default:
+            throw new AssertionError("Unknown book search field: " + this);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The best matches of a search of a {@link BookList}, along with the number of books that matched in total.
+ * Guarantees: immutable.
+ */
+public class BookSearchResult {
+
+    private final List<Book> topBooks;
+    private final int matchCount;
+
+    /**
+     * Creates a result of {@code matchCount} matching books, of which {@code topBooks} are the best, best first.
+     */
+    public BookSearchResult(List<Book> topBooks, int matchCount) {
+        requireNonNull(topBooks);
+        this.topBooks = Collections.unmodifiableList(topBooks);
+        this.matchCount = matchCount;
+    }
+
+    /**
+     * Returns the best matching books, best first.
+     */
+    public List<Book> getTopBooks() {
+        return topBooks;
+    }
+
+    /**
+     * Returns the number of books that matched, which may be more than the number of top books.
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+}
@@ -6,9 +6,13 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.book.BookStatusType.AVAILABLE;
 import static seedu.address.model.book.BookStatusType.BORROWED;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 
 import seedu.address.model.patron.Patron;
@@ -23,13 +27,18 @@ public class BookStatus {
             "An available book status must not contain any borrower, borrowDate and return date "
                     + "and a borrowed status must contain borrower, borrowDate and return date,"
                     + "and date must be in dd-MMM-yyyy format.";
-    public static final SimpleDateFormat STATUS_DATE_FORMAT = new SimpleDateFormat("dd-MMM-yyyy");
+    public static final DateTimeFormatter STATUS_DATE_FORMATTER = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .appendPattern("dd-MMM-uuuu")
+            .toFormatter(Locale.ENGLISH)
+            .withResolverStyle(ResolverStyle.STRICT);
     public static final String VALIDATION_REGEX = "^\\d{2}-[a-zA-Z]{3}-\\d{4}$";
 
     private final BookStatusType bookStatusType;
     private final Optional<Patron> borrower;
-    private final Optional<Date> borrowDate;
-    private final Optional<Date> returnDate;
+    // Dates are stored as epoch days, and are only meaningful if this status is of borrowed type
+    private final long borrowEpochDay;
+    private final long returnEpochDay;
 
     /**
      * Constructs a {@code BookStatus}.
@@ -42,10 +51,17 @@ public class BookStatus {
                       Optional<String> returnDate) {
         requireAllNonNull(bookStatusType, borrower, borrowDate, returnDate);
         checkArgument(isValidStatus(bookStatusType, borrower, borrowDate, returnDate), MESSAGE_CONSTRAINTS);
-        this.borrowDate = borrowDate.map(BookStatus::parseToDate);
-        this.returnDate = returnDate.map(BookStatus::parseToDate);
         this.bookStatusType = bookStatusType;
         this.borrower = borrower;
+        this.borrowEpochDay = borrowDate.flatMap(BookStatus::parseDate).map(LocalDate::toEpochDay).orElse(0L);
+        this.returnEpochDay = returnDate.flatMap(BookStatus::parseDate).map(LocalDate::toEpochDay).orElse(0L);
+    }
+
+    private BookStatus(Patron borrower, long borrowEpochDay, long returnEpochDay) {
+        this.bookStatusType = BORROWED;
+        this.borrower = Optional.of(borrower);
+        this.borrowEpochDay = borrowEpochDay;
+        this.returnEpochDay = returnEpochDay;
     }
 
     /**
@@ -58,6 +74,16 @@ public class BookStatus {
                 Optional.empty());
     }
 
+    /**
+     * A static function for creating a BORROWED book status from already parsed dates.
+     *
+     * @return A BORROWED BookStatus object.
+     */
+    public static BookStatus createBorrowedBookStatus(Patron borrower, LocalDate borrowDate, LocalDate returnDate) {
+        requireAllNonNull(borrower, borrowDate, returnDate);
+        return new BookStatus(borrower, borrowDate.toEpochDay(), returnDate.toEpochDay());
+    }
+
     /**
      * Returns a BookStatus with the exact same fields as this book status, but with its borrower replaced with the
      * edited borrower. This book status must be of borrowed type before {@code editBorrower} is called.
@@ -67,13 +93,18 @@ public class BookStatus {
     public BookStatus editBorrower(Patron editedBorrower) {
         requireNonNull(editedBorrower);
         assert isBorrowed();
-        Optional<String> borrowDateString = borrowDate.map(STATUS_DATE_FORMAT::format);
-        Optional<String> returnDateString = returnDate.map(STATUS_DATE_FORMAT::format);
-        return new BookStatus(bookStatusType, Optional.of(editedBorrower), borrowDateString, returnDateString);
+        return new BookStatus(editedBorrower, borrowEpochDay, returnEpochDay);
     }
 
     public static String getCurrentDateString() {
-        return STATUS_DATE_FORMAT.format(new Date());
+        return formatDate(getCurrentDate());
+    }
+
+    /**
+     * Returns the current date.
+     */
+    public static LocalDate getCurrentDate() {
+        return LocalDate.now();
     }
 
     /**
@@ -88,14 +119,9 @@ public class BookStatus {
                 && borrower.isEmpty() && borrowDate.isEmpty() && returnDate.isEmpty();
 
         // A book with borrowed status must have corresponding borrower, borrow and return dates.
-        String borrowDateString = borrowDate.orElse("");
-        String returnDateString = returnDate.orElse("");
-        boolean isValidBorrowRegex = borrowDateString.matches(VALIDATION_REGEX);
-        boolean isValidReturnRegex = returnDateString.matches(VALIDATION_REGEX);
         boolean isBorrowedConstraintsSatisfied = bookStatusType == BORROWED
-                && borrower.isPresent() && borrowDate.isPresent()
-                && returnDate.isPresent() && isValidBorrowRegex && isValidReturnRegex
-                && isValidDateString(borrowDateString) && isValidDateString(returnDateString);
+                && borrower.isPresent() && borrowDate.isPresent() && returnDate.isPresent()
+                && isValidDateString(borrowDate.get()) && isValidDateString(returnDate.get());
 
         return isAvailableConstraintsSatisfied || isBorrowedConstraintsSatisfied;
     }
@@ -118,34 +144,52 @@ public class BookStatus {
      * Returns a String representing the borrow date of this book, or an empty string if this book is not borrowed.
      */
     public String getBorrowDateString() {
-        if (borrowDate.isEmpty()) {
-            return "";
-        }
-        return STATUS_DATE_FORMAT.format(borrowDate.get());
+        return isBorrowed() ? formatDate(LocalDate.ofEpochDay(borrowEpochDay)) : "";
     }
 
     /**
      * Returns a String representing the return date of this book, or an empty string if this book is not borrowed.
      */
     public String getReturnDateString() {
-        if (returnDate.isEmpty()) {
-            return "";
-        }
-        return STATUS_DATE_FORMAT.format(returnDate.get());
+        return isBorrowed() ? formatDate(LocalDate.ofEpochDay(returnEpochDay)) : "";
+    }
+
+    /**
+     * Returns the borrow date of this book, if it is borrowed.
+     */
+    public Optional<LocalDate> getBorrowDate() {
+        return isBorrowed() ? Optional.of(LocalDate.ofEpochDay(borrowEpochDay)) : Optional.empty();
+    }
+
+    /**
+     * Returns the return date of this book, if it is borrowed.
+     */
+    public Optional<LocalDate> getReturnDate() {
+        return isBorrowed() ? Optional.of(LocalDate.ofEpochDay(returnEpochDay)) : Optional.empty();
     }
 
     /**
      * Returns true if this book is overdue.
      */
     public boolean isOverdue() {
-        if (!isBorrowed()) {
-            return false;
-        }
-        String returnDateString = getReturnDateString();
-        String currentDateString = STATUS_DATE_FORMAT.format(new Date());
-        Date currentDate = parseToDate(currentDateString);
-        Date returnDate = parseToDate(returnDateString);
-        return currentDate.after(returnDate);
+        return isOverdue(getCurrentDate());
+    }
+
+    /**
+     * Returns true if this book is overdue as of {@code currentDate}.
+     * Callers checking many books should get the current date once from {@link #getCurrentDate()}.
+     */
+    public boolean isOverdue(LocalDate currentDate) {
+        requireNonNull(currentDate);
+        return isBorrowed() && currentDate.toEpochDay() > returnEpochDay;
+    }
+
+    /**
+     * Returns the return date of this book as an epoch day. This book status must be of borrowed type.
+     */
+    long getReturnEpochDay() {
+        assert isBorrowed();
+        return returnEpochDay;
     }
 
     /**
@@ -169,21 +213,30 @@ public class BookStatus {
         builder.append(bookStatusType.toString());
         if (isBorrowed()) {
             builder.append("; Borrowed by: ").append(borrower.map(b -> b.getName()).get());
-            builder.append("; Borrow Date: ").append(borrowDate.map(date -> STATUS_DATE_FORMAT.format(date)).get());
-            builder.append("; Return Date: ").append(returnDate.map(date -> STATUS_DATE_FORMAT.format(date)).get());
+            builder.append("; Borrow Date: ").append(getBorrowDateString());
+            builder.append("; Return Date: ").append(getReturnDateString());
         }
         return builder.toString();
     }
 
     @Override
     public boolean equals(Object other) {
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof BookStatus)) { // instanceof handles nulls
+            return false;
+        }
         BookStatus otherBookStatus = (BookStatus) other;
-        return other == this // short circuit if same object
-                || (other instanceof BookStatus // instanceof handles nulls
-                && bookStatusType == ((BookStatus) other).bookStatusType
+        return bookStatusType == otherBookStatus.bookStatusType
                 && borrower.equals(otherBookStatus.borrower)
-                && borrowDate.equals(otherBookStatus.borrowDate)
-                && returnDate.equals(otherBookStatus.returnDate)); // state check
+                && borrowEpochDay == otherBookStatus.borrowEpochDay
+                && returnEpochDay == otherBookStatus.returnEpochDay; // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bookStatusType, borrower, borrowEpochDay, returnEpochDay);
     }
 
     /**
@@ -193,21 +246,31 @@ public class BookStatus {
      * @return True if the string to be tested is a valid date in dd-MMM-yyyy format.
      */
     public static boolean isValidDateString(String dateString) {
-        try {
-            Date parsedDate = STATUS_DATE_FORMAT.parse(dateString);
-            String parsedDateString = STATUS_DATE_FORMAT.format(parsedDate);
-            return parsedDateString.toLowerCase().equals(dateString.toLowerCase());
-        } catch (ParseException e) {
-            return false;
-        }
+        return parseDate(dateString).isPresent();
     }
 
-    private static Date parseToDate(String dateString) throws IllegalArgumentException {
+    /**
+     * Parses a date in dd-MMM-yyyy format, ignoring the case of the month.
+     *
+     * @return The parsed date, or an empty optional if {@code dateString} is not a valid date in dd-MMM-yyyy format.
+     */
+    public static Optional<LocalDate> parseDate(String dateString) {
+        requireNonNull(dateString);
+        if (!dateString.matches(VALIDATION_REGEX)) {
+            return Optional.empty();
+        }
         try {
-            return STATUS_DATE_FORMAT.parse(dateString);
-        } catch (ParseException e) {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+            return Optional.of(LocalDate.parse(dateString, STATUS_DATE_FORMATTER));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
         }
     }
 
+    /**
+     * Formats {@code date} in dd-MMM-yyyy format.
+     */
+    public static String formatDate(LocalDate date) {
+        return STATUS_DATE_FORMATTER.format(date);
+    }
+
 }
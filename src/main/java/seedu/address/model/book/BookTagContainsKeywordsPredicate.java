@@ -1,13 +1,14 @@
 package seedu.address.model.book;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
 
 
 /**
  * Test that a {@code Book}'s {@code BookTag} matches any of the keywords given
  */
-public class BookTagContainsKeywordsPredicate implements Predicate<Book> {
+public class BookTagContainsKeywordsPredicate implements IndexedBookPredicate {
 
     private final List<String> keywords;
 
@@ -22,6 +23,16 @@ public class BookTagContainsKeywordsPredicate implements Predicate<Book> {
                         x.toString().toUpperCase().contains(keywords.toUpperCase())));
     }
 
+    @Override
+    public Stream<Book> getCandidates(BookList bookList) {
+        return keywords.stream().flatMap(keyword -> bookList.getCandidatesContaining(BookSearchField.TAG, keyword));
+    }
+
+    @Override
+    public ToDoubleFunction<Book> getScorer(BookList bookList) {
+        return bookList.getRelevanceScorer(BookSearchField.TAG, keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,173 @@
+package seedu.address.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.commons.core.TokenIndex;
+
+/**
+ * A secondary index of a {@link BookList} over the tokens of one {@link BookSearchField} of its books.
+ * The tokens of a field are the whitespace-separated parts of each of its upper-cased values, and each token is
+ * mapped to the copy ids of the copies that have it.
+ *
+ * A string without whitespace is contained in a field value if and only if it is contained in one of its tokens,
+ * so copies whose field contains a string are found by looking up the tokens that contain it.
+ *
+ * The index also keeps the total number of tokens of the copies, counting repeated tokens, so that copies can
+ * be ranked by the BM25 relevance of their tokens to a search.
+ *
+ * The index must be kept in sync with its book list through {@link #add(Book)} and {@link #remove(Book)}.
+ */
+class BookTokenIndex {
+
+    /** How quickly repeated matches of a search term stop adding to the relevance of a copy. */
+    private static final double K1 = 1.2;
+
+    /** How much the relevance of a copy is lowered for having more tokens than the average copy. */
+    private static final double B = 0.75;
+
+    private final BookSearchField field;
+    private final TokenIndex<Long> copyIdsByToken = new TokenIndex<>();
+    private long tokenCount = 0;
+
+    /**
+     * Creates an empty index over the values of {@code field}.
+     */
+    BookTokenIndex(BookSearchField field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    /**
+     * Adds the copy id of {@code book} under each of its tokens.
+     */
+    void add(Book book) {
+        requireNonNull(book);
+        List<String> tokens = getTokens(book);
+        for (String token : new HashSet<>(tokens)) {
+            copyIdsByToken.add(token, book.getCopyId());
+        }
+        tokenCount += tokens.size();
+    }
+
+    /**
+     * Removes the copy id of {@code book} from each of its tokens.
+     */
+    void remove(Book book) {
+        requireNonNull(book);
+        List<String> tokens = getTokens(book);
+        for (String token : new HashSet<>(tokens)) {
+            assert copyIdsByToken.getKeysWithToken(token).contains(book.getCopyId())
+                    : "token to remove is not indexed";
+            copyIdsByToken.remove(token, book.getCopyId());
+        }
+        tokenCount -= tokens.size();
+    }
+
+    /**
+     * Replaces {@code oldBook} with {@code newBook} in the index.
+     * Nothing needs to be done if they are the same copy with the same values of the indexed field.
+     */
+    void replace(Book oldBook, Book newBook) {
+        requireNonNull(oldBook);
+        requireNonNull(newBook);
+        if (oldBook.getCopyId() == newBook.getCopyId()
+                && field.getValues(oldBook).equals(field.getValues(newBook))) {
+            return;
+        }
+        remove(oldBook);
+        add(newBook);
+    }
+
+    /**
+     * Removes all tokens from the index.
+     */
+    void clear() {
+        copyIdsByToken.clear();
+        tokenCount = 0;
+    }
+
+    /**
+     * Returns the copy ids of the copies with a token that contains {@code string}, which must be upper-cased
+     * and must not be empty or contain whitespace.
+     */
+    Set<Long> getCopyIdsContaining(String string) {
+        requireNonNull(string);
+        assert tokenize(string).equals(List.of(string)) : "string to find is not a token";
+        return copyIdsByToken.getKeysWithTokenContaining(string);
+    }
+
+    /**
+     * Returns the copy ids of the copies with a token within an edit distance of {@code maxDistance} from
+     * {@code word}, which must be upper-cased, mapped to the least distance of their tokens from it.
+     */
+    Map<Long, Integer> getDistancesByCopyId(String word, int maxDistance) {
+        requireNonNull(word);
+        Map<Long, Integer> distancesByCopyId = new HashMap<>();
+        copyIdsByToken.getTokensWithinDistance(word, maxDistance).forEach((token, distance) -> {
+            for (Long copyId : copyIdsByToken.getKeysWithToken(token)) {
+                distancesByCopyId.merge(copyId, distance, Math::min);
+            }
+        });
+        return distancesByCopyId;
+    }
+
+    /**
+     * Returns a function that scores the BM25 relevance of copies to {@code terms}, which must be upper-cased
+     * tokens, when the index is over a list of {@code bookCount} copies. A term matches the tokens that contain
+     * it, and terms that fewer copies match count for more.
+     */
+    ToDoubleFunction<Book> getRelevanceScorer(List<String> terms, int bookCount) {
+        requireNonNull(terms);
+        Map<String, Double> inverseFrequencies = new HashMap<>();
+        for (String term : terms) {
+            inverseFrequencies.computeIfAbsent(term, unused -> {
+                int matchCount = copyIdsByToken.getKeysWithTokenContaining(term).size();
+                return Math.log(1 + (bookCount - matchCount + 0.5) / (matchCount + 0.5));
+            });
+        }
+        double averageTokenCount = bookCount == 0 ? 0 : (double) tokenCount / bookCount;
+
+        return book -> {
+            List<String> tokens = getTokens(book);
+            double lengthNorm = averageTokenCount == 0 ? 1 : 1 - B + B * tokens.size() / averageTokenCount;
+            double score = 0;
+            for (Map.Entry<String, Double> entry : inverseFrequencies.entrySet()) {
+                long termFrequency = tokens.stream().filter(token -> token.contains(entry.getKey())).count();
+                score += entry.getValue() * termFrequency * (K1 + 1) / (termFrequency + K1 * lengthNorm);
+            }
+            return score;
+        };
+    }
+
+    /**
+     * Returns the upper-cased, whitespace-separated parts of {@code value}, in order.
+     */
+    static List<String> tokenize(String value) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : value.toUpperCase().split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the tokens of the values of the indexed field of {@code book}, including repeated tokens.
+     */
+    private List<String> getTokens(Book book) {
+        List<String> tokens = new ArrayList<>();
+        for (String value : field.getValues(book)) {
+            tokens.addAll(tokenize(value));
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.patron.Id;
+import seedu.address.model.patron.Patron;
+
+/**
+ * A secondary index of a {@link BookList} that maps the {@link Id} of each borrower to the copies they are
+ * currently borrowing. Copies that are not borrowed are not indexed.
+ *
+ * The index must be kept in sync with its book list through {@link #add(Book)} and {@link #remove(Book)}.
+ * The copies borrowed by each borrower are keyed by their copy id, which must be unique in the index.
+ */
+class BorrowerIndex {
+
+    private final Map<Id, Map<Long, Book>> loans = new HashMap<>();
+
+    /**
+     * Adds {@code book} to the loans of its borrower, if it is borrowed.
+     */
+    void add(Book book) {
+        requireNonNull(book);
+        getBorrowerId(book).ifPresent(id ->
+                loans.computeIfAbsent(id, unused -> new LinkedHashMap<>()).put(book.getCopyId(), book));
+    }
+
+    /**
+     * Removes the copy with the same copy id as {@code book} from the loans of its borrower, if it is borrowed.
+     */
+    void remove(Book book) {
+        requireNonNull(book);
+        getBorrowerId(book).ifPresent(id -> {
+            Map<Long, Book> borrowedBooks = loans.get(id);
+            assert borrowedBooks != null : "borrowed book to remove is not indexed";
+            borrowedBooks.remove(book.getCopyId());
+            if (borrowedBooks.isEmpty()) {
+                loans.remove(id);
+            }
+        });
+    }
+
+    /**
+     * Removes all loans from the index.
+     */
+    void clear() {
+        loans.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the copies borrowed by a patron with the same {@link Id} as {@code patron}.
+     * The returned copies still need to be checked with {@link Book#isBorrowedBy(Patron)} if the other fields
+     * of {@code patron} matter.
+     */
+    Collection<Book> getLoans(Patron patron) {
+        Map<Long, Book> borrowedBooks = loans.get(patron.getId());
+        return borrowedBooks == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableCollection(borrowedBooks.values());
+    }
+
+    private static Optional<Id> getBorrowerId(Book book) {
+        if (!book.isBorrowed()) {
+            return Optional.empty();
+        }
+        return book.getBookStatus().getBorrower().map(Patron::getId);
+    }
+}
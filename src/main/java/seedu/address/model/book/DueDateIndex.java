@@ -0,0 +1,98 @@
+package seedu.address.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * A secondary index of a {@link BookList} that keeps the borrowed copies sorted by the epoch day of their return
+ * date, so that queries about overdue and upcoming due books are range queries instead of scans over the whole list.
+ * Copies that are not borrowed are not indexed.
+ *
+ * The index must be kept in sync with its book list through {@link #add(Book)} and {@link #remove(Book)}.
+ * The copies due on each day are keyed by their copy id, which must be unique in the index.
+ */
+class DueDateIndex {
+
+    private final NavigableMap<Long, Map<Long, Book>> booksByReturnDate = new TreeMap<>();
+    private int size = 0;
+
+    /**
+     * Adds {@code book} under its return date, if it is borrowed.
+     */
+    void add(Book book) {
+        requireNonNull(book);
+        if (!book.isBorrowed()) {
+            return;
+        }
+        booksByReturnDate.computeIfAbsent(book.getBookStatus().getReturnEpochDay(), unused -> new LinkedHashMap<>())
+                .put(book.getCopyId(), book);
+        size++;
+    }
+
+    /**
+     * Removes the copy with the same copy id as {@code book} from under its return date, if it is borrowed.
+     */
+    void remove(Book book) {
+        requireNonNull(book);
+        if (!book.isBorrowed()) {
+            return;
+        }
+        long returnEpochDay = book.getBookStatus().getReturnEpochDay();
+        Map<Long, Book> books = booksByReturnDate.get(returnEpochDay);
+        assert books != null && books.containsKey(book.getCopyId()) : "borrowed book to remove is not indexed";
+        books.remove(book.getCopyId());
+        size--;
+        if (books.isEmpty()) {
+            booksByReturnDate.remove(returnEpochDay);
+        }
+    }
+
+    /**
+     * Removes all copies from the index.
+     */
+    void clear() {
+        booksByReturnDate.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of borrowed copies.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns all borrowed copies, in order of return date.
+     */
+    Stream<Book> getBooks() {
+        return flatten(booksByReturnDate);
+    }
+
+    /**
+     * Returns the borrowed copies with a return date strictly before {@code epochDay}, in order of return date.
+     */
+    Stream<Book> getBooksDueBefore(long epochDay) {
+        return flatten(booksByReturnDate.headMap(epochDay, false));
+    }
+
+    /**
+     * Returns the borrowed copies with a return date from {@code startEpochDay} to {@code endEpochDay},
+     * both inclusive, in order of return date.
+     */
+    Stream<Book> getBooksDueBetween(long startEpochDay, long endEpochDay) {
+        if (startEpochDay > endEpochDay) {
+            return Stream.empty();
+        }
+        return flatten(booksByReturnDate.subMap(startEpochDay, true, endEpochDay, true));
+    }
+
+    private static Stream<Book> flatten(Map<Long, Map<Long, Book>> books) {
+        return books.values().stream().flatMap(booksDueOnDay -> booksDueOnDay.values().stream());
+    }
+}
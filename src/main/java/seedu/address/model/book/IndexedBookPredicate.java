@@ -0,0 +1,26 @@
+package seedu.address.model.book;
+
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * A predicate on books whose matches in a {@link BookList} can be found from the secondary indexes of the list,
+ * without testing every book in it.
+ */
+public interface IndexedBookPredicate extends Predicate<Book> {
+
+    /**
+     * Returns the copies in {@code bookList} that may satisfy this predicate, which include every copy that does.
+     * A copy may be returned more than once.
+     */
+    Stream<Book> getCandidates(BookList bookList);
+
+    /**
+     * Returns a function that scores how closely the copies in {@code bookList} that satisfy this predicate match
+     * it. Matches with higher scores are better, and all matches are equally good by default.
+     */
+    default ToDoubleFunction<Book> getScorer(BookList bookList) {
+        return book -> 0;
+    }
+}
@@ -3,7 +3,11 @@ package seedu.address.model.book;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-public class Isbn {
+/**
+ * Represents a Book's isbn in LibTask.
+ * Guarantees: immutable; is valid as declared in {@link #isValidIsbn(String)}
+ */
+public class Isbn implements Comparable<Isbn> {
 
     public static final String SPECIAL_CHARACTERS = "-";
     public static final String MESSAGE_CONSTRAINTS = "Isbn should adhere to the following constraints:\n"
@@ -28,7 +32,10 @@ public class Isbn {
     private static final int ISBN13_VALID_PREFIX1 = 978;
     private static final int ISBN13_VALID_PREFIX2 = 979;
 
-    private final String isbn;
+    // The isbn without hyphens, which is what isbns are compared by
+    private final String isbnWithoutHyphen;
+    // The digits of the isbn as a number, which is unique to each isbn as 13-digit isbns start with 978 or 979
+    private final long digits;
 
     /**
      * Constructs a {@code Isbn}
@@ -38,7 +45,8 @@ public class Isbn {
     public Isbn(String isbn) {
         requireNonNull(isbn);
         checkArgument(isValidIsbn(isbn), MESSAGE_CONSTRAINTS);
-        this.isbn = isbn;
+        isbnWithoutHyphen = removeHyphen(isbn);
+        digits = Long.parseLong(isbnWithoutHyphen);
     }
 
     /**
@@ -59,12 +67,7 @@ public class Isbn {
     }
 
     private static String removeHyphen(String fullIsbn) {
-        String[] isbnParts = fullIsbn.split("-");
-        StringBuilder isbnWithoutHyphen = new StringBuilder();
-        for (String substring: isbnParts) {
-            isbnWithoutHyphen.append(substring);
-        }
-        return isbnWithoutHyphen.toString();
+        return fullIsbn.replace(SPECIAL_CHARACTERS, "");
     }
 
     private static boolean isValidIsbn10(String isbnWithoutHyphen) {
@@ -98,20 +101,36 @@ public class Isbn {
         return hasValidPrefix && hasValidCheckSum;
     }
 
+    /**
+     * Returns the digits of this isbn as a number, which can be used as a key in place of the isbn.
+     * Different isbns always have different numbers.
+     */
+    public long toLong() {
+        return digits;
+    }
+
+    /**
+     * Compares isbns by their digits, with all 10-digit isbns before all 13-digit isbns.
+     */
+    @Override
+    public int compareTo(Isbn other) {
+        return Long.compare(digits, other.digits);
+    }
+
     @Override
     public String toString() {
-        return removeHyphen(isbn);
+        return isbnWithoutHyphen;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Isbn // instanceof handles nulls
-                && removeHyphen(isbn).equals(removeHyphen(((Isbn) other).isbn))); // state check
+                && digits == ((Isbn) other).digits); // state check
     }
 
     @Override
     public int hashCode() {
-        return removeHyphen(isbn).hashCode();
+        return Long.hashCode(digits);
     }
 }
@@ -0,0 +1,188 @@
+package seedu.address.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * A secondary index of a {@link BookList} that groups the copies of each book by their {@link Isbn}.
+ * Each group caches the number of available and borrowed copies, so that isbn-based queries do not need
+ * to scan the whole book list. The groups are also kept sorted by the digits of their isbn, so that the copies
+ * with an isbn starting with some digits are found by a range lookup.
+ *
+ * The index must be kept in sync with its book list through {@link #add(Book)} and {@link #remove(Book)}.
+ * Copies are told apart by their copy id, so every indexed copy must have a copy id that is unique in the index.
+ */
+class IsbnIndex {
+
+    private final Map<Isbn, CopyGroup> groups = new HashMap<>();
+    private final NavigableMap<String, CopyGroup> groupsByDigits = new TreeMap<>();
+
+    /**
+     * Adds {@code book} to the group of copies with the same isbn.
+     */
+    void add(Book book) {
+        requireNonNull(book);
+        groups.computeIfAbsent(book.getIsbn(), this::addGroup).add(book);
+    }
+
+    /**
+     * Removes the copy with the same copy id as {@code book} from the group of copies with the same isbn.
+     * The copy must be in the index.
+     */
+    void remove(Book book) {
+        requireNonNull(book);
+        CopyGroup group = groups.get(book.getIsbn());
+        assert group != null : "book to remove is not indexed";
+        group.remove(book);
+        if (group.isEmpty()) {
+            groups.remove(book.getIsbn());
+            groupsByDigits.remove(book.getIsbn().toString());
+        }
+    }
+
+    /**
+     * Replaces the indexed copy with the same copy id as {@code target} with {@code editedBook}.
+     * If both books have the same isbn and copy id, {@code editedBook} takes the place of {@code target} within
+     * its group.
+     */
+    void replace(Book target, Book editedBook) {
+        requireNonNull(target);
+        requireNonNull(editedBook);
+        if (!target.hasSameIsbn(editedBook) || target.getCopyId() != editedBook.getCopyId()) {
+            remove(target);
+            add(editedBook);
+            return;
+        }
+        CopyGroup group = groups.get(target.getIsbn());
+        assert group != null : "book to replace is not indexed";
+        group.replace(editedBook);
+    }
+
+    /**
+     * Removes all copies from the index.
+     */
+    void clear() {
+        groups.clear();
+        groupsByDigits.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of all copies with {@code isbn} in the order they were indexed,
+     * or an empty collection if there are none.
+     */
+    Collection<Book> getCopies(Isbn isbn) {
+        CopyGroup group = groups.get(isbn);
+        return group == null ? Collections.emptyList() : Collections.unmodifiableCollection(group.copies.values());
+    }
+
+    /**
+     * Returns all copies with an isbn whose digits start with {@code digits}.
+     */
+    Stream<Book> getCopiesWithIsbnStartingWith(String digits) {
+        requireNonNull(digits);
+        return getGroupsStartingWith(digits).stream().flatMap(group -> group.copies.values().stream());
+    }
+
+    /**
+     * Returns the number of copies with an isbn whose digits start with {@code digits}.
+     */
+    int countCopiesWithIsbnStartingWith(String digits) {
+        requireNonNull(digits);
+        return getGroupsStartingWith(digits).stream().mapToInt(group -> group.copies.size()).sum();
+    }
+
+    /**
+     * Returns true if there is at least one copy with {@code isbn}.
+     */
+    boolean hasIsbn(Isbn isbn) {
+        return groups.containsKey(isbn);
+    }
+
+    /**
+     * Returns the number of copies with {@code isbn}.
+     */
+    int countCopies(Isbn isbn) {
+        CopyGroup group = groups.get(isbn);
+        return group == null ? 0 : group.copies.size();
+    }
+
+    /**
+     * Returns the number of available copies with {@code isbn}.
+     */
+    int countAvailableCopies(Isbn isbn) {
+        CopyGroup group = groups.get(isbn);
+        return group == null ? 0 : group.availableCount;
+    }
+
+    /**
+     * Returns the number of borrowed copies with {@code isbn}.
+     */
+    int countBorrowedCopies(Isbn isbn) {
+        CopyGroup group = groups.get(isbn);
+        return group == null ? 0 : group.borrowedCount;
+    }
+
+    private CopyGroup addGroup(Isbn isbn) {
+        CopyGroup group = new CopyGroup();
+        groupsByDigits.put(isbn.toString(), group);
+        return group;
+    }
+
+    private Collection<CopyGroup> getGroupsStartingWith(String digits) {
+        if (digits.isEmpty()) {
+            return groupsByDigits.values();
+        }
+        // The last digit is at most '9', so every isbn starting with the digits comes before them followed by ':'
+        return groupsByDigits.subMap(digits, true, digits + ':', false).values();
+    }
+
+    /**
+     * All copies of a single isbn keyed by their copy id in the order they were indexed, together with cached counts
+     * of their statuses.
+     */
+    private static class CopyGroup {
+        private final Map<Long, Book> copies = new LinkedHashMap<>();
+        private int availableCount = 0;
+        private int borrowedCount = 0;
+
+        private void add(Book book) {
+            Book previousCopy = copies.put(book.getCopyId(), book);
+            assert previousCopy == null : "book to add is already indexed";
+            updateCounts(book, 1);
+        }
+
+        private void remove(Book book) {
+            Book removedCopy = copies.remove(book.getCopyId());
+            assert removedCopy != null : "book to remove is not indexed";
+            updateCounts(removedCopy, -1);
+        }
+
+        private void replace(Book editedBook) {
+            // Putting a key that is already mapped keeps its place in the iteration order
+            Book replacedCopy = copies.put(editedBook.getCopyId(), editedBook);
+            assert replacedCopy != null : "book to replace is not indexed";
+            updateCounts(replacedCopy, -1);
+            updateCounts(editedBook, 1);
+        }
+
+        private boolean isEmpty() {
+            return copies.isEmpty();
+        }
+
+        private void updateCounts(Book book, int delta) {
+            if (book.isAvailable()) {
+                availableCount += delta;
+            } else if (book.isBorrowed()) {
+                borrowedCount += delta;
+            }
+        }
+    }
+}
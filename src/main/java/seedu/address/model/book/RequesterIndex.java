@@ -0,0 +1,65 @@
+package seedu.address.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.patron.Id;
+import seedu.address.model.patron.Patron;
+
+/**
+ * A secondary index of a {@link BookList} that maps the {@link Id} of each requester to the isbns of the books
+ * they have requested, together with the number of copies of each isbn that list them as a requester.
+ *
+ * The index must be kept in sync with its book list through {@link #add(Book)} and {@link #remove(Book)}.
+ */
+class RequesterIndex {
+
+    private final Map<Id, Map<Isbn, Integer>> requests = new HashMap<>();
+
+    /**
+     * Adds the requests of {@code book} to the index.
+     */
+    void add(Book book) {
+        requireNonNull(book);
+        for (Patron requester : book.getRequesters()) {
+            requests.computeIfAbsent(requester.getId(), unused -> new HashMap<>())
+                    .merge(book.getIsbn(), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes the requests of {@code book} from the index.
+     */
+    void remove(Book book) {
+        requireNonNull(book);
+        for (Patron requester : book.getRequesters()) {
+            Map<Isbn, Integer> requestedIsbns = requests.get(requester.getId());
+            assert requestedIsbns != null && requestedIsbns.containsKey(book.getIsbn())
+                    : "request to remove is not indexed";
+            requestedIsbns.computeIfPresent(book.getIsbn(), (isbn, count) -> count == 1 ? null : count - 1);
+            if (requestedIsbns.isEmpty()) {
+                requests.remove(requester.getId());
+            }
+        }
+    }
+
+    /**
+     * Removes all requests from the index.
+     */
+    void clear() {
+        requests.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the isbns of the books requested by a patron with the same {@link Id} as
+     * {@code patron}. The copies with these isbns still need to be checked with {@link Book#isRequestedBy(Patron)}.
+     */
+    Set<Isbn> getRequestedIsbns(Patron patron) {
+        Map<Isbn, Integer> requestedIsbns = requests.get(patron.getId());
+        return requestedIsbns == null ? Collections.emptySet() : Collections.unmodifiableSet(requestedIsbns.keySet());
+    }
+}
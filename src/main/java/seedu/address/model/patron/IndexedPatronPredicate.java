@@ -0,0 +1,17 @@
+package seedu.address.model.patron;
+
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A predicate on patrons whose matches in a {@link UniquePatronList} can be found from the search index of the
+ * list, without testing every patron in it.
+ */
+public interface IndexedPatronPredicate extends Predicate<Patron> {
+
+    /**
+     * Returns the patrons in {@code patronList} that may satisfy this predicate, which include every patron that
+     * does. A patron may be returned more than once.
+     */
+    Stream<Patron> getCandidates(UniquePatronList patronList);
+}
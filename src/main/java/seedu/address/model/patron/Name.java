@@ -21,6 +21,7 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    private final String nameForComparison;
 
     /**
      * Constructs a {@code Name}.
@@ -31,6 +32,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        nameForComparison = getPatronNameForComparison();
     }
 
     /**
@@ -51,7 +53,7 @@ public class Name {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Name // instanceof handles nulls
-                && getPatronNameForComparison().equals(((Name) other).getPatronNameForComparison())); // state check
+                && nameForComparison.equals(((Name) other).nameForComparison)); // state check
     }
 
     /**
@@ -66,7 +68,7 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return getPatronNameForComparison().hashCode();
+        return nameForComparison.hashCode();
     }
 
 }
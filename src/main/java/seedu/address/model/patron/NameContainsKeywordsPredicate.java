@@ -1,14 +1,14 @@
 package seedu.address.model.patron;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Patron}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Patron> {
+public class NameContainsKeywordsPredicate implements IndexedPatronPredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -21,6 +21,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Patron> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(patron.getName().fullName, keyword));
     }
 
+    @Override
+    public Stream<Patron> getCandidates(UniquePatronList patronList) {
+        return keywords.stream().flatMap(patronList::getPatronsWithNameWord);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
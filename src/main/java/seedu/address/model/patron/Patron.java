@@ -22,7 +22,10 @@ public class Patron {
 
     // Data fields
     private final Id id;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+
+    // Patrons are hashed often as the borrowers and requesters of books, so the hash is worked out once
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -33,7 +36,8 @@ public class Patron {
         this.phone = phone;
         this.email = email;
         this.id = id;
-        this.tags.addAll(tags);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        hash = Objects.hash(name, phone, email, id, this.tags);
     }
 
     public Name getName() {
@@ -57,7 +61,7 @@ public class Patron {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -94,7 +98,8 @@ public class Patron {
         }
 
         Patron otherPatron = (Patron) other;
-        return otherPatron.getName().equals(getName())
+        return otherPatron.hash == hash
+                && otherPatron.getName().equals(getName())
                 && otherPatron.getPhone().equals(getPhone())
                 && otherPatron.getEmail().equals(getEmail())
                 && otherPatron.getId().equals(getId())
@@ -103,8 +108,7 @@ public class Patron {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, id, tags);
+        return hash;
     }
 
     @Override
@@ -0,0 +1,81 @@
+package seedu.address.model.patron;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * An index of a {@link UniquePatronList} that maps each of the fields that identify a patron, i.e. the
+ * {@link Name}, {@link Id} and {@link Email} used by {@link Patron#isSamePatron(Patron)}, to the patron with it.
+ * As the patrons in the list are unique, each field value belongs to at most one patron, so identity checks
+ * are hash lookups instead of scans over the whole list.
+ *
+ * The index must be kept in sync with its patron list through {@link #add(Patron)} and {@link #remove(Patron)}.
+ */
+class PatronIdentityIndex {
+
+    private final Map<Name, Patron> patronsByName = new HashMap<>();
+    private final Map<Id, Patron> patronsById = new HashMap<>();
+    private final Map<Email, Patron> patronsByEmail = new HashMap<>();
+
+    /**
+     * Adds {@code patron} under each of its identity fields.
+     * No indexed patron may be the same as {@code patron}.
+     */
+    void add(Patron patron) {
+        requireNonNull(patron);
+        assert !contains(patron) : "patron to add is the same as an indexed patron";
+        patronsByName.put(patron.getName(), patron);
+        patronsById.put(patron.getId(), patron);
+        patronsByEmail.put(patron.getEmail(), patron);
+    }
+
+    /**
+     * Removes the patron with the identity fields of {@code patron}, which must be in the index.
+     */
+    void remove(Patron patron) {
+        requireNonNull(patron);
+        patronsByName.remove(patron.getName());
+        patronsById.remove(patron.getId());
+        patronsByEmail.remove(patron.getEmail());
+    }
+
+    /**
+     * Removes all patrons from the index.
+     */
+    void clear() {
+        patronsByName.clear();
+        patronsById.clear();
+        patronsByEmail.clear();
+    }
+
+    /**
+     * Returns true if an indexed patron is the same as {@code patron}, based on {@link Patron#isSamePatron(Patron)}.
+     */
+    boolean contains(Patron patron) {
+        requireNonNull(patron);
+        return patronsByName.containsKey(patron.getName())
+                || patronsById.containsKey(patron.getId())
+                || patronsByEmail.containsKey(patron.getEmail());
+    }
+
+    /**
+     * Returns the indexed patron with the id {@code id}, or null if there is none.
+     */
+    Patron getPatron(Id id) {
+        requireNonNull(id);
+        return patronsById.get(id);
+    }
+
+    /**
+     * Returns the indexed patrons that are the same as {@code patron}, based on {@link Patron#isSamePatron(Patron)}.
+     * There are at most three of them, one for each identity field, and a patron may be returned more than once.
+     */
+    Stream<Patron> getSamePatrons(Patron patron) {
+        requireNonNull(patron);
+        return Stream.of(patronsByName.get(patron.getName()), patronsById.get(patron.getId()),
+                patronsByEmail.get(patron.getEmail())).filter(samePatron -> samePatron != null);
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.patron;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a {@code Patron} matches any of the patterns given, ignoring case.
+ * A pattern without {@value #WILDCARD} matches a whole word of the patron's {@code Name}. A pattern ending with
+ * {@value #WILDCARD} matches the start of a name word, or of the patron's {@code Email}, {@code Phone} or
+ * {@code Id}, a pattern starting with it matches their end, and a pattern with both matches any part of them.
+ */
+public class PatronMatchesPatternsPredicate implements IndexedPatronPredicate {
+
+    public static final String WILDCARD = "*";
+
+    private final List<String> patterns;
+
+    public PatronMatchesPatternsPredicate(List<String> patterns) {
+        this.patterns = patterns;
+    }
+
+    /**
+     * Returns true if {@code keyword} starts or ends with a {@value #WILDCARD}.
+     */
+    public static boolean isPattern(String keyword) {
+        return keyword.startsWith(WILDCARD) || keyword.endsWith(WILDCARD);
+    }
+
+    @Override
+    public boolean test(Patron patron) {
+        return patterns.stream().anyMatch(pattern -> matches(patron, pattern));
+    }
+
+    @Override
+    public Stream<Patron> getCandidates(UniquePatronList patronList) {
+        return patterns.stream().flatMap(pattern -> getCandidates(patronList, pattern));
+    }
+
+    private static Stream<Patron> getCandidates(UniquePatronList patronList, String pattern) {
+        String text = getText(pattern);
+        if (!isPattern(pattern)) {
+            return patronList.getPatronsWithNameWord(text);
+        } else if (text.isEmpty()) {
+            return patronList.asUnmodifiableObservableList().stream();
+        } else if (pattern.startsWith(WILDCARD)) {
+            return patronList.getPatronsContaining(text);
+        } else {
+            return patronList.getPatronsStartingWith(text);
+        }
+    }
+
+    private static boolean matches(Patron patron, String pattern) {
+        String text = getText(pattern).toUpperCase();
+        if (!isPattern(pattern)) {
+            return PatronSearchIndex.getNameWords(patron).contains(text);
+        }
+        boolean isPrefix = !pattern.startsWith(WILDCARD);
+        boolean isSuffix = !pattern.endsWith(WILDCARD);
+        return Stream.concat(PatronSearchIndex.getNameWords(patron).stream(),
+                PatronSearchIndex.getContacts(patron).stream())
+                .anyMatch(value -> (!isPrefix || value.startsWith(text))
+                        && (!isSuffix || value.endsWith(text))
+                        && value.contains(text));
+    }
+
+    /**
+     * Returns {@code pattern} without the wildcards at its start and end.
+     */
+    private static String getText(String pattern) {
+        int start = 0;
+        int end = pattern.length();
+        while (start < end && pattern.startsWith(WILDCARD, start)) {
+            start++;
+        }
+        while (end > start && pattern.startsWith(WILDCARD, end - 1)) {
+            end--;
+        }
+        return pattern.substring(start, end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PatronMatchesPatternsPredicate // instanceof handles nulls
+                && patterns.equals(((PatronMatchesPatternsPredicate) other).patterns)); // state check
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.patron;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.TokenIndex;
+
+/**
+ * An index of a {@link UniquePatronList} for searching patrons by the words of their {@link Name}, and by their
+ * {@link Email}, {@link Phone} and {@link Id}. Each of these is upper-cased and mapped to the ids of the patrons
+ * with it, so that patrons are found by exact, prefix and substring lookups instead of scans over the whole list.
+ *
+ * The index must be kept in sync with its patron list through {@link #add(Patron)} and {@link #remove(Patron)}.
+ */
+class PatronSearchIndex {
+
+    private final TokenIndex<Id> idsByNameWord = new TokenIndex<>();
+    private final TokenIndex<Id> idsByContact = new TokenIndex<>();
+
+    /**
+     * Adds the id of {@code patron} under its name words, email, phone and id.
+     */
+    void add(Patron patron) {
+        requireNonNull(patron);
+        for (String word : getNameWords(patron)) {
+            idsByNameWord.add(word, patron.getId());
+        }
+        for (String contact : getContacts(patron)) {
+            idsByContact.add(contact, patron.getId());
+        }
+    }
+
+    /**
+     * Removes the id of {@code patron} from under its name words, email, phone and id.
+     */
+    void remove(Patron patron) {
+        requireNonNull(patron);
+        for (String word : getNameWords(patron)) {
+            idsByNameWord.remove(word, patron.getId());
+        }
+        for (String contact : getContacts(patron)) {
+            idsByContact.remove(contact, patron.getId());
+        }
+    }
+
+    /**
+     * Removes all patrons from the index.
+     */
+    void clear() {
+        idsByNameWord.clear();
+        idsByContact.clear();
+    }
+
+    /**
+     * Returns the ids of the patrons with a name word equal to {@code word}, which must be upper-cased.
+     */
+    Set<Id> getIdsWithNameWord(String word) {
+        return idsByNameWord.getKeysWithToken(word);
+    }
+
+    /**
+     * Returns the ids of the patrons with a name word, email, phone or id that starts with {@code prefix},
+     * which must be upper-cased.
+     */
+    Set<Id> getIdsStartingWith(String prefix) {
+        Set<Id> ids = idsByNameWord.getKeysWithTokenStartingWith(prefix);
+        ids.addAll(idsByContact.getKeysWithTokenStartingWith(prefix));
+        return ids;
+    }
+
+    /**
+     * Returns the ids of the patrons with a name word, email, phone or id that contains {@code string},
+     * which must be upper-cased.
+     */
+    Set<Id> getIdsContaining(String string) {
+        Set<Id> ids = idsByNameWord.getKeysWithTokenContaining(string);
+        ids.addAll(idsByContact.getKeysWithTokenContaining(string));
+        return ids;
+    }
+
+    /**
+     * Returns the upper-cased words of the name of {@code patron}.
+     */
+    static Set<String> getNameWords(Patron patron) {
+        Set<String> words = new HashSet<>();
+        for (String word : patron.getName().fullName.toUpperCase().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the upper-cased email, phone and id of {@code patron}.
+     */
+    static List<String> getContacts(Patron patron) {
+        return List.of(patron.getEmail().value.toUpperCase(), patron.getPhone().value.toUpperCase(),
+                patron.getId().value.toUpperCase());
+    }
+}
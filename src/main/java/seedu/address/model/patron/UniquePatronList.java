@@ -3,11 +3,19 @@ package seedu.address.model.patron;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ListChange;
+import seedu.address.model.ListChangeLog;
 import seedu.address.model.patron.exceptions.DuplicatePatronException;
 import seedu.address.model.patron.exceptions.PatronNotFoundException;
 
@@ -27,13 +35,19 @@ public class UniquePatronList implements Iterable<Patron> {
     private final ObservableList<Patron> internalList = FXCollections.observableArrayList();
     private final ObservableList<Patron> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PatronIdentityIndex identityIndex = new PatronIdentityIndex();
+    private final PatronSearchIndex searchIndex = new PatronSearchIndex();
+    // Position of each patron in the backing list, by its id, which is unique within this list
+    private final Map<Id, Integer> positionsById = new HashMap<>();
+    private long version = 0;
+    private ListChangeLog<Patron> changeLog = new ListChangeLog<>();
 
     /**
      * Returns true if the list contains an equivalent patron as the given argument.
      */
     public boolean contains(Patron toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePatron);
+        return identityIndex.contains(toCheck);
     }
 
     /**
@@ -45,7 +59,12 @@ public class UniquePatronList implements Iterable<Patron> {
         if (contains(toAdd)) {
             throw new DuplicatePatronException();
         }
+        positionsById.put(toAdd.getId(), internalList.size());
         internalList.add(toAdd);
+        identityIndex.add(toAdd);
+        searchIndex.add(toAdd);
+        version++;
+        changeLog = changeLog.append(ListChange.insert(internalList.size() - 1, toAdd));
     }
 
     /**
@@ -56,16 +75,24 @@ public class UniquePatronList implements Iterable<Patron> {
     public void setPatron(Patron target, Patron editedPatron) {
         requireAllNonNull(target, editedPatron);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PatronNotFoundException();
         }
 
-        if (!target.isSamePatron(editedPatron) && contains(editedPatron)) {
+        if (hasEditedPatron(target, editedPatron)) {
             throw new DuplicatePatronException();
         }
 
         internalList.set(index, editedPatron);
+        positionsById.remove(target.getId());
+        positionsById.put(editedPatron.getId(), index);
+        identityIndex.remove(target);
+        identityIndex.add(editedPatron);
+        searchIndex.remove(target);
+        searchIndex.add(editedPatron);
+        version++;
+        changeLog = changeLog.append(ListChange.set(index, editedPatron));
     }
 
     /**
@@ -74,14 +101,30 @@ public class UniquePatronList implements Iterable<Patron> {
      */
     public void remove(Patron toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PatronNotFoundException();
         }
+        internalList.remove(index);
+        positionsById.remove(toRemove.getId());
+        for (int i = index; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+        identityIndex.remove(toRemove);
+        searchIndex.remove(toRemove);
+        version++;
+        changeLog = changeLog.append(ListChange.remove(index));
     }
 
     public void setPatrons(UniquePatronList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        internalList.forEach(identityIndex::add);
+        rebuildPositions();
+        rebuildSearchIndex();
+        version++;
+        changeLog = replacement.changeLog;
     }
 
     /**
@@ -89,12 +132,31 @@ public class UniquePatronList implements Iterable<Patron> {
      * {@code patrons} must not contain duplicate patrons.
      */
     public void setPatrons(List<Patron> patrons) {
+        setPatrons(patrons, new ListChangeLog<>());
+    }
+
+    /**
+     * Replaces the contents of this list with {@code patrons}, which are the contents of a list as of
+     * {@code changeLog}, so that the changes made to this list from now on carry on from {@code changeLog}.
+     * {@code patrons} must not contain duplicate patrons.
+     */
+    public void setPatrons(List<Patron> patrons, ListChangeLog<Patron> changeLog) {
         requireAllNonNull(patrons);
-        if (!patronsAreUnique(patrons)) {
-            throw new DuplicatePatronException();
+        requireNonNull(changeLog);
+        PatronIdentityIndex replacementIndex = new PatronIdentityIndex();
+        for (Patron patron : patrons) {
+            if (replacementIndex.contains(patron)) {
+                throw new DuplicatePatronException();
+            }
+            replacementIndex.add(patron);
         }
 
         internalList.setAll(patrons);
+        identityIndex = replacementIndex;
+        rebuildPositions();
+        rebuildSearchIndex();
+        version++;
+        this.changeLog = changeLog;
     }
 
     /**
@@ -103,7 +165,86 @@ public class UniquePatronList implements Iterable<Patron> {
      */
     public boolean hasEditedPatron(Patron oldPatron, Patron editedPatron) {
         requireAllNonNull(oldPatron, editedPatron);
-        return internalList.stream().anyMatch(patron -> !patron.equals(oldPatron) && patron.isSamePatron(editedPatron));
+        return identityIndex.getSamePatrons(editedPatron).anyMatch(patron -> !patron.equals(oldPatron));
+    }
+
+    /**
+     * Returns the set of patrons in this list that satisfy {@code predicate}, which are only looked for among
+     * the candidates it finds from the search index of this list.
+     * Membership in the returned set is by identity, so it only contains the exact patron objects in this list.
+     */
+    public Set<Patron> getPatronsMatching(IndexedPatronPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Patron> matchingPatrons = Collections.newSetFromMap(new IdentityHashMap<>());
+        predicate.getCandidates(this).forEach(patron -> {
+            if (!matchingPatrons.contains(patron) && predicate.test(patron)) {
+                matchingPatrons.add(patron);
+            }
+        });
+        return matchingPatrons;
+    }
+
+    /**
+     * Returns the patrons in this list with a name word equal to {@code word}, ignoring case.
+     */
+    Stream<Patron> getPatronsWithNameWord(String word) {
+        return getPatrons(searchIndex.getIdsWithNameWord(word.trim().toUpperCase()));
+    }
+
+    /**
+     * Returns the patrons in this list with a name word, email, phone or id that starts with {@code prefix},
+     * ignoring case.
+     */
+    Stream<Patron> getPatronsStartingWith(String prefix) {
+        return getPatrons(searchIndex.getIdsStartingWith(prefix.toUpperCase()));
+    }
+
+    /**
+     * Returns the patrons in this list with a name word, email, phone or id that contains {@code string},
+     * ignoring case.
+     */
+    Stream<Patron> getPatronsContaining(String string) {
+        return getPatrons(searchIndex.getIdsContaining(string.toUpperCase()));
+    }
+
+    /**
+     * Returns the number of modifications made to this list so far.
+     * The version only ever increases, so an unchanged version means that the list has not been modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the log of the changes made to this list, as of its current contents.
+     */
+    public ListChangeLog<Patron> getChangeLog() {
+        return changeLog;
+    }
+
+    private Stream<Patron> getPatrons(Set<Id> ids) {
+        return ids.stream().map(identityIndex::getPatron);
+    }
+
+    /**
+     * Returns the position of {@code patron} in the list, or -1 if it is not in the list.
+     * Only the patron with the same id can be equal to {@code patron}, so it is looked up by its id.
+     */
+    private int indexOf(Patron patron) {
+        Integer position = positionsById.get(patron.getId());
+        return position != null && internalList.get(position).equals(patron) ? position : -1;
+    }
+
+    private void rebuildPositions() {
+        positionsById.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    private void rebuildSearchIndex() {
+        searchIndex.clear();
+        internalList.forEach(searchIndex::add);
     }
 
     /**
@@ -129,18 +270,4 @@ public class UniquePatronList implements Iterable<Patron> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code patrons} contains only unique patrons.
-     */
-    private boolean patronsAreUnique(List<Patron> patrons) {
-        for (int i = 0; i < patrons.size() - 1; i++) {
-            for (int j = i + 1; j < patrons.size(); j++) {
-                if (patrons.get(i).isSamePatron(patrons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
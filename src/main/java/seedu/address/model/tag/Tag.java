@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.core.InternPool;
+
 /**
  * Represents a Tag in LibTask.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +14,8 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final InternPool<Tag> POOL = new InternPool<>(Tag::new);
+
     public final String tagName;
 
     /**
@@ -25,6 +29,15 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} with the given name, so that books and patrons with the same tag share it.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
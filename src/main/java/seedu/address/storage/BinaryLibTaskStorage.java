@@ -0,0 +1,609 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.LibTask;
+import seedu.address.model.ReadOnlyLibTask;
+import seedu.address.model.book.Author;
+import seedu.address.model.book.Book;
+import seedu.address.model.book.BookName;
+import seedu.address.model.book.BookStatus;
+import seedu.address.model.book.Isbn;
+import seedu.address.model.patron.Email;
+import seedu.address.model.patron.Id;
+import seedu.address.model.patron.Name;
+import seedu.address.model.patron.Patron;
+import seedu.address.model.patron.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access LibTask data stored as a compact binary snapshot on the hard disk.
+ *
+ * A snapshot starts with a magic number and a format version, followed by the patrons and books, and then by
+ * the dictionaries of tag names and author names. Integers are stored as varints, strings as UTF-8 bytes
+ * prefixed by their length, dates as epoch days, and tags and authors as indexes into their dictionaries.
+ * The borrower and requesters of a book are stored as indexes into the patron list, or in full if they are
+ * not in it. Since version 2 of the format, each book ends with its copy id, and snapshots in version 1 are
+ * still read.
+ *
+ * Snapshots are written through {@link RotatingBackups}, and the newest readable backup is read instead if the
+ * data file is corrupted. Files at any other path than the data file are read and written by another
+ * {@link LibTaskStorage}, the interchange storage, which is also used to import the data when there is no data
+ * file yet. A snapshot is exported back to the interchange storage with
+ * {@link #exportSnapshot(Path, LibTaskStorage)} when LibTask stops being stored as binary.
+ */
+public class BinaryLibTaskStorage implements LibTaskStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int MAGIC_NUMBER = 0x4c54534b; // "LTSK"
+    public static final int FIRST_FORMAT_VERSION = 1;
+    public static final int FORMAT_VERSION = 2;
+
+    public static final String MESSAGE_NOT_SNAPSHOT = "File is not a LibTask binary snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Snapshot is in an unsupported format version: %d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryLibTaskStorage.class);
+
+    private static final int STATUS_AVAILABLE = 0;
+    private static final int STATUS_BORROWED = 1;
+    // References to patrons in the patron list start from 1, as 0 means that the patron follows in full
+    private static final int PATRON_IN_FULL = 0;
+
+    private final Path filePath;
+    private final LibTaskStorage interchangeStorage;
+    private final RotatingBackups backups;
+    private Path lastReadFilePath;
+
+    /**
+     * Creates a {@code BinaryLibTaskStorage} for the data file at {@code filePath}, which imports from
+     * {@code interchangeStorage}.
+     */
+    public BinaryLibTaskStorage(Path filePath, LibTaskStorage interchangeStorage) {
+        this(filePath, interchangeStorage, new RotatingBackups());
+    }
+
+    /**
+     * Creates a {@code BinaryLibTaskStorage} for the data file at {@code filePath}, which imports from
+     * {@code interchangeStorage} and writes the data file through {@code backups}.
+     */
+    public BinaryLibTaskStorage(Path filePath, LibTaskStorage interchangeStorage, RotatingBackups backups) {
+        requireAllNonNull(filePath, interchangeStorage, backups);
+        this.filePath = filePath;
+        this.interchangeStorage = interchangeStorage;
+        this.backups = backups;
+    }
+
+    /**
+     * Returns the path of a binary snapshot next to the file at {@code filePath}, with the same name but the
+     * {@link #FILE_EXTENSION} extension, e.g. libtask.bin for libtask.json.
+     */
+    public static Path getBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    /**
+     * Exports the binary snapshot at {@code filePath} to the data file of {@code interchangeStorage}, including the
+     * changes in the journal of the snapshot, and then deletes the snapshot, its journal and its backups.
+     * This is done when LibTask stops being stored as binary, so that the interchange storage holds the newest data,
+     * and so that an old snapshot is not read over newer data if LibTask is stored as binary again.
+     * Nothing is done if there is no snapshot at {@code filePath}.
+     *
+     * @throws DataConversionException if the snapshot and all its backups are not in the correct format, in which
+     *     case they are kept.
+     */
+    public static void exportSnapshot(Path filePath, LibTaskStorage interchangeStorage)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, interchangeStorage);
+        if (!Files.exists(filePath)) {
+            return;
+        }
+
+        RotatingBackups backups = new RotatingBackups();
+        JournaledLibTaskStorage snapshotStorage =
+                new JournaledLibTaskStorage(new BinaryLibTaskStorage(filePath, interchangeStorage, backups));
+        ReadOnlyLibTask libTask = snapshotStorage.readLibTask().get();
+        logger.info("Exporting binary snapshot " + filePath + " to " + interchangeStorage.getLibTaskFilePath());
+        interchangeStorage.saveLibTask(libTask);
+
+        Files.deleteIfExists(snapshotStorage.getJournalFilePath());
+        Files.delete(filePath);
+        for (Path backupFilePath : backups.getBackupFilePaths(filePath)) {
+            Files.deleteIfExists(backupFilePath);
+        }
+    }
+
+    @Override
+    public Path getLibTaskFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyLibTask> readLibTask() throws DataConversionException, IOException {
+        return readLibTask(filePath);
+    }
+
+    /**
+     * Similar to {@link #readLibTask()}, but any other file than the data file is read by the interchange storage.
+     * If the data file does not exist, the data is imported from the interchange storage.
+     * If the data file is not in the correct format, the newest backup in the correct format is read instead.
+     *
+     * @throws DataConversionException if the data file and all its backups are not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyLibTask> readLibTask(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        lastReadFilePath = null;
+        if (!filePath.equals(this.filePath)) {
+            return readFromInterchangeStorage(filePath);
+        }
+        if (!Files.exists(filePath)) {
+            logger.info("Binary snapshot " + filePath + " not found, importing from "
+                    + interchangeStorage.getLibTaskFilePath());
+            return readFromInterchangeStorage(interchangeStorage.getLibTaskFilePath());
+        }
+
+        DataConversionException fileException;
+        try {
+            LibTask libTask = readSnapshot(filePath);
+            lastReadFilePath = filePath;
+            return Optional.of(libTask);
+        } catch (DataConversionException e) {
+            fileException = e;
+        }
+
+        for (Path backupFilePath : backups.getBackupFilePaths(filePath)) {
+            if (!Files.exists(backupFilePath)) {
+                continue;
+            }
+            try {
+                LibTask libTask = readSnapshot(backupFilePath);
+                logger.warning("Binary snapshot " + filePath + " is corrupted, using backup " + backupFilePath);
+                lastReadFilePath = backupFilePath;
+                return Optional.of(libTask);
+            } catch (DataConversionException e) {
+                logger.warning("Ignoring corrupted backup " + backupFilePath);
+            }
+        }
+        throw fileException;
+    }
+
+    @Override
+    public Optional<Path> getLastReadFilePath() {
+        return Optional.ofNullable(lastReadFilePath);
+    }
+
+    private Optional<ReadOnlyLibTask> readFromInterchangeStorage(Path filePath)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyLibTask> libTask = interchangeStorage.readLibTask(filePath);
+        lastReadFilePath = interchangeStorage.getLastReadFilePath().orElse(null);
+        return libTask;
+    }
+
+    /**
+     * Reads the binary snapshot at {@code filePath}, which must exist.
+     * The file is read into the heap instead of being mapped, as a mapped file cannot be replaced on some
+     * platforms until the mapping is garbage collected.
+     */
+    private static LibTask readSnapshot(Path filePath) throws DataConversionException, IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        try {
+            return new SnapshotReader(buffer).read();
+        } catch (IllegalValueException | IllegalArgumentException | IndexOutOfBoundsException
+                | BufferUnderflowException e) {
+            logger.warning("Error reading from binary snapshot " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveLibTask(ReadOnlyLibTask libTask) throws IOException {
+        saveLibTask(libTask, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveLibTask(ReadOnlyLibTask)}, but any other file than the data file is written by
+     * the interchange storage.
+     */
+    @Override
+    public void saveLibTask(ReadOnlyLibTask libTask, Path filePath) throws IOException {
+        requireNonNull(libTask);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            interchangeStorage.saveLibTask(libTask, filePath);
+            return;
+        }
+
+        backups.write(filePath, new SnapshotWriter(libTask).write());
+    }
+
+    /**
+     * Writes a LibTask as a binary snapshot.
+     */
+    private static class SnapshotWriter {
+        private final ReadOnlyLibTask libTask;
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final Map<Id, Integer> patronIndexes = new HashMap<>();
+        // Dictionary entries are numbered in order of first use
+        private final Map<String, Integer> tagIndexes = new HashMap<>();
+        private final List<String> tagNames = new ArrayList<>();
+        private final Map<String, Integer> authorIndexes = new HashMap<>();
+        private final List<String> authorNames = new ArrayList<>();
+
+        private SnapshotWriter(ReadOnlyLibTask libTask) {
+            this.libTask = libTask;
+        }
+
+        private byte[] write() {
+            writeFixedInt(MAGIC_NUMBER);
+            writeVarLong(FORMAT_VERSION);
+
+            List<Patron> patrons = libTask.getPatronList();
+            writeVarLong(patrons.size());
+            for (int i = 0; i < patrons.size(); i++) {
+                writePatron(patrons.get(i));
+                patronIndexes.put(patrons.get(i).getId(), i);
+            }
+
+            List<Book> books = libTask.getBookList();
+            writeVarLong(books.size());
+            for (Book book : books) {
+                writeBook(book);
+            }
+
+            writeStrings(tagNames);
+            writeStrings(authorNames);
+            return out.toByteArray();
+        }
+
+        private void writePatron(Patron patron) {
+            writeString(patron.getName().fullName);
+            writeString(patron.getPhone().value);
+            writeString(patron.getEmail().value);
+            writeString(patron.getId().value);
+            writeTags(patron.getTags());
+        }
+
+        private void writePatronReference(Patron patron) {
+            Integer index = patronIndexes.get(patron.getId());
+            if (index != null && libTask.getPatronList().get(index).equals(patron)) {
+                writeVarLong(index + 1);
+            } else {
+                writeVarLong(PATRON_IN_FULL);
+                writePatron(patron);
+            }
+        }
+
+        private void writeBook(Book book) {
+            writeString(book.getBookName().fullBookName);
+            writeString(book.getIsbn().toString());
+            writeVarLong(book.getAuthors().size());
+            for (Author author : book.getAuthors()) {
+                writeVarLong(indexOf(author.fullAuthorName, authorIndexes, authorNames));
+            }
+            writeTags(book.getTags());
+            writeSignedVarLong(book.getTimeAdded());
+
+            BookStatus bookStatus = book.getBookStatus();
+            if (bookStatus.isBorrowed()) {
+                out.write(STATUS_BORROWED);
+                writePatronReference(bookStatus.getBorrower().get());
+                writeSignedVarLong(bookStatus.getBorrowDate().get().toEpochDay());
+                writeSignedVarLong(bookStatus.getReturnDate().get().toEpochDay());
+            } else {
+                out.write(STATUS_AVAILABLE);
+            }
+
+            writeVarLong(book.getRequesters().size());
+            for (Patron requester : book.getRequesters()) {
+                writePatronReference(requester);
+            }
+            writeVarLong(book.getCopyId());
+        }
+
+        private void writeTags(Set<Tag> tags) {
+            writeVarLong(tags.size());
+            for (Tag tag : tags) {
+                writeVarLong(indexOf(tag.tagName, tagIndexes, tagNames));
+            }
+        }
+
+        private static int indexOf(String entry, Map<String, Integer> indexes, List<String> dictionary) {
+            return indexes.computeIfAbsent(entry, unused -> {
+                dictionary.add(entry);
+                return dictionary.size() - 1;
+            });
+        }
+
+        private void writeStrings(List<String> strings) {
+            writeVarLong(strings.size());
+            strings.forEach(this::writeString);
+        }
+
+        private void writeString(String string) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        private void writeFixedInt(int value) {
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                out.write(value >>> shift);
+            }
+        }
+
+        /**
+         * Writes a non-negative {@code value} in 7-bit groups, least significant first, with the high bit of
+         * each byte set if more groups follow.
+         */
+        private void writeVarLong(long value) {
+            assert value >= 0;
+            while ((value & ~0x7fL) != 0) {
+                out.write((int) ((value & 0x7f) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        /**
+         * Writes {@code value} as a varint after zigzag encoding, so that small negative values are also short.
+         */
+        private void writeSignedVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7fL) != 0) {
+                out.write((int) ((zigzag & 0x7f) | 0x80));
+                zigzag >>>= 7;
+            }
+            out.write((int) zigzag);
+        }
+    }
+
+    /**
+     * Reads a LibTask from a binary snapshot.
+     * Malformed snapshots cause an {@code IllegalValueException}, or one of the runtime exceptions caught by
+     * {@link #readSnapshot(Path)}.
+     */
+    private static class SnapshotReader {
+        private final ByteBuffer buffer;
+        private final List<Patron> patrons = new ArrayList<>();
+        private final List<Tag> tags = new ArrayList<>();
+        private final List<Author> authors = new ArrayList<>();
+        private int version;
+
+        private SnapshotReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private LibTask read() throws IllegalValueException {
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_SNAPSHOT);
+            }
+            version = readVarInt();
+            if (version < FIRST_FORMAT_VERSION || version > FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            // The dictionaries are at the end, as they are only complete once everything else is written
+            int patronsStart = buffer.position();
+            skipPatronsAndBooks();
+            for (String tagName : readStrings()) {
+                tags.add(Tag.of(tagName));
+            }
+            for (String authorName : readStrings()) {
+                authors.add(Author.of(authorName));
+            }
+            buffer.position(patronsStart);
+
+            LibTask libTask = new LibTask();
+            int patronCount = readCount();
+            for (int i = 0; i < patronCount; i++) {
+                Patron patron = readPatron();
+                if (libTask.hasPatron(patron)) {
+                    throw new IllegalValueException(JsonSerializableLibTask.MESSAGE_DUPLICATE_PATRON);
+                }
+                libTask.addPatron(patron);
+                patrons.add(patron);
+            }
+            int bookCount = readCount();
+            for (int i = 0; i < bookCount; i++) {
+                libTask.addBook(readBook());
+            }
+            return libTask;
+        }
+
+        private void skipPatronsAndBooks() {
+            int patronCount = readCount();
+            for (int i = 0; i < patronCount; i++) {
+                skipPatron();
+            }
+            int bookCount = readCount();
+            for (int i = 0; i < bookCount; i++) {
+                skipString();
+                skipString();
+                skipVarLongs(readCount());
+                skipVarLongs(readCount());
+                readVarLong();
+                if (buffer.get() == STATUS_BORROWED) {
+                    skipPatronReference();
+                    skipVarLongs(2);
+                }
+                int requesterCount = readCount();
+                for (int j = 0; j < requesterCount; j++) {
+                    skipPatronReference();
+                }
+                if (hasCopyIds()) {
+                    readVarLong();
+                }
+            }
+        }
+
+        private void skipPatron() {
+            for (int i = 0; i < 4; i++) {
+                skipString();
+            }
+            skipVarLongs(readCount());
+        }
+
+        private void skipPatronReference() {
+            if (readVarLong() == PATRON_IN_FULL) {
+                skipPatron();
+            }
+        }
+
+        private Patron readPatron() {
+            Name name = new Name(readString());
+            Phone phone = new Phone(readString());
+            Email email = new Email(readString());
+            Id id = new Id(readString());
+            return new Patron(name, phone, email, id, readTags());
+        }
+
+        private Patron readPatronReference() {
+            int reference = readVarInt();
+            return reference == PATRON_IN_FULL ? readPatron() : patrons.get(reference - 1);
+        }
+
+        private Book readBook() throws IllegalValueException {
+            BookName bookName = new BookName(readString());
+            Isbn isbn = new Isbn(readString());
+            int authorCount = readCount();
+            List<Author> bookAuthors = new ArrayList<>(authorCount);
+            for (int i = 0; i < authorCount; i++) {
+                bookAuthors.add(authors.get(readVarInt()));
+            }
+            Set<Tag> bookTags = readTags();
+            long timeAdded = readSignedVarLong();
+
+            BookStatus bookStatus;
+            int statusType = buffer.get();
+            if (statusType == STATUS_AVAILABLE) {
+                bookStatus = BookStatus.createAvailableBookStatus();
+            } else if (statusType == STATUS_BORROWED) {
+                Patron borrower = readPatronReference();
+                bookStatus = BookStatus.createBorrowedBookStatus(borrower, readDate(), readDate());
+            } else {
+                throw new IllegalValueException(BookStatus.MESSAGE_CONSTRAINTS);
+            }
+
+            int requesterCount = readCount();
+            Set<Patron> requesters = new HashSet<>();
+            for (int i = 0; i < requesterCount; i++) {
+                requesters.add(readPatronReference());
+            }
+            Book book = new Book(bookName, isbn, bookAuthors, bookTags, timeAdded, bookStatus, requesters);
+            if (!hasCopyIds()) {
+                return book;
+            }
+            long copyId = readVarLong();
+            if (copyId == Book.NO_COPY_ID) {
+                return book;
+            }
+            if (!Book.isValidCopyId(copyId)) {
+                throw new IllegalValueException(Book.COPY_ID_MESSAGE_CONSTRAINTS);
+            }
+            return book.withCopyId(copyId);
+        }
+
+        private boolean hasCopyIds() {
+            return version >= 2;
+        }
+
+        private Set<Tag> readTags() {
+            int tagCount = readCount();
+            Set<Tag> readTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                readTags.add(tags.get(readVarInt()));
+            }
+            return readTags;
+        }
+
+        private LocalDate readDate() {
+            return LocalDate.ofEpochDay(readSignedVarLong());
+        }
+
+        private List<String> readStrings() {
+            int count = readCount();
+            List<String> strings = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                strings.add(readString());
+            }
+            return strings;
+        }
+
+        private String readString() {
+            byte[] bytes = new byte[readCount()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void skipString() {
+            int length = readCount();
+            buffer.position(buffer.position() + length);
+        }
+
+        private void skipVarLongs(int count) {
+            for (int i = 0; i < count; i++) {
+                readVarLong();
+            }
+        }
+
+        /**
+         * Reads a count of bytes or elements that follow, which cannot be more than the bytes left.
+         */
+        private int readCount() {
+            int count = readVarInt();
+            if (count > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            return count;
+        }
+
+        private int readVarInt() {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+            return (int) value;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        private long readSignedVarLong() {
+            long zigzag = readVarLong();
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+    }
+}
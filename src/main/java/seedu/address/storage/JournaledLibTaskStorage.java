@@ -0,0 +1,289 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.LibTask;
+import seedu.address.model.ListChange;
+import seedu.address.model.ListChangeLog;
+import seedu.address.model.ReadOnlyLibTask;
+import seedu.address.model.book.Book;
+import seedu.address.model.patron.Patron;
+import seedu.address.model.patron.exceptions.DuplicatePatronException;
+
+/**
+ * A {@link LibTaskStorage} that saves changes to LibTask as records appended to a journal file next to the data
+ * file, instead of rewriting the whole data file on every save. The journal is folded into the data file by
+ * another {@link LibTaskStorage}, the snapshot storage, once it grows past a number of records.
+ * The records of each save are appended as one entry, on a single line that is forced to the disk before the save
+ * completes, so a save is replayed either whole or not at all.
+ *
+ * Changes are read from the {@link ListChangeLog}s of the patrons and books to save, from the logs last saved,
+ * so a save takes time proportional to the number of changes made since, not to the size of LibTask.
+ * Data whose changes since the last save are not in its logs is compacted instead.
+ */
+public class JournaledLibTaskStorage implements LibTaskStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledLibTaskStorage.class);
+
+    private final LibTaskStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    // The logs of the patrons and books as last saved to, or read from, the snapshot and journal of the data file
+    private ListChangeLog<Patron> savedPatronChangeLog;
+    private ListChangeLog<Book> savedBookChangeLog;
+    private int journalRecordCount = 0;
+    private boolean isCompactionNeeded = true;
+
+    public JournaledLibTaskStorage(LibTaskStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledLibTaskStorage} that compacts its journal into {@code snapshotStorage} after
+     * more than {@code compactionThreshold} records.
+     */
+    public JournaledLibTaskStorage(LibTaskStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        checkArgument(compactionThreshold > 0);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getLibTaskFilePath() {
+        return snapshotStorage.getLibTaskFilePath();
+    }
+
+    /**
+     * Returns the path of the journal of the data file.
+     */
+    public Path getJournalFilePath() {
+        Path filePath = getLibTaskFilePath();
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyLibTask> readLibTask() throws DataConversionException, IOException {
+        return readLibTask(getLibTaskFilePath());
+    }
+
+    /**
+     * Similar to {@link #readLibTask()}, but the journal is only replayed if {@code filePath} is the data file.
+     */
+    @Override
+    public Optional<ReadOnlyLibTask> readLibTask(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getLibTaskFilePath())) {
+            return snapshotStorage.readLibTask(filePath);
+        }
+
+        savedPatronChangeLog = null;
+        savedBookChangeLog = null;
+        isCompactionNeeded = true;
+        // The journal is checked first, as the snapshot storage may rewrite the data file while reading it,
+        // e.g. to migrate it to a newer format
+        boolean isJournalOfSnapshot = isJournalOfDataFile();
+        Optional<ReadOnlyLibTask> snapshot = snapshotStorage.readLibTask(filePath);
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+        // The journal was started from the data file, so it cannot be replayed onto a backup read instead
+        if (isJournalOfSnapshot && !snapshotStorage.getLastReadFilePath().equals(Optional.of(filePath))) {
+            logger.warning("Data file was not read, ignoring its journal: " + getJournalFilePath());
+            isJournalOfSnapshot = false;
+        }
+
+        List<Patron> patrons = new ArrayList<>(snapshot.get().getPatronList());
+        List<Book> books = new ArrayList<>(snapshot.get().getBookList());
+        replayJournal(patrons, books, isJournalOfSnapshot);
+
+        LibTask libTask = new LibTask();
+        try {
+            libTask.setPatrons(patrons);
+        } catch (DuplicatePatronException e) {
+            throw new DataConversionException(e);
+        }
+        libTask.setBooks(books);
+        savedPatronChangeLog = libTask.getPatronChangeLog();
+        savedBookChangeLog = libTask.getBookChangeLog();
+        if (isJournalOfSnapshot && !isJournalOfDataFile()) {
+            compact(libTask);
+        }
+        return Optional.of(libTask);
+    }
+
+    @Override
+    public Optional<Path> getLastReadFilePath() {
+        return snapshotStorage.getLastReadFilePath();
+    }
+
+    @Override
+    public void saveLibTask(ReadOnlyLibTask libTask) throws IOException {
+        saveLibTask(libTask, getLibTaskFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveLibTask(ReadOnlyLibTask)}, but only the data file is journaled.
+     * Saving to any other {@code filePath} writes the whole of {@code libTask} to it.
+     */
+    @Override
+    public void saveLibTask(ReadOnlyLibTask libTask, Path filePath) throws IOException {
+        requireNonNull(libTask);
+        requireNonNull(filePath);
+        if (!filePath.equals(getLibTaskFilePath())) {
+            snapshotStorage.saveLibTask(libTask, filePath);
+            return;
+        }
+
+        if (isCompactionNeeded) {
+            compact(libTask);
+            return;
+        }
+        ListChangeLog<Patron> patronChangeLog = libTask.getPatronChangeLog();
+        ListChangeLog<Book> bookChangeLog = libTask.getBookChangeLog();
+        Optional<List<ListChange<Patron>>> patronChanges = patronChangeLog.getChangesSince(savedPatronChangeLog);
+        Optional<List<ListChange<Book>>> bookChanges = bookChangeLog.getChangesSince(savedBookChangeLog);
+        if (patronChanges.isEmpty() || bookChanges.isEmpty()
+                || journalRecordCount + patronChanges.get().size() + bookChanges.get().size() > compactionThreshold) {
+            compact(libTask);
+            return;
+        }
+        if (patronChanges.get().isEmpty() && bookChanges.get().isEmpty()) {
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        patronChanges.get().forEach(change -> records.add(JsonAdaptedJournalRecord.ofPatron(change)));
+        bookChanges.get().forEach(change -> records.add(JsonAdaptedJournalRecord.ofBook(change)));
+        appendToJournal(new JsonAdaptedJournalEntry(records));
+        savedPatronChangeLog = patronChangeLog;
+        savedBookChangeLog = bookChangeLog;
+    }
+
+    /**
+     * Writes the whole of {@code libTask} to the data file and starts a new, empty journal.
+     */
+    public void compact(ReadOnlyLibTask libTask) throws IOException {
+        requireNonNull(libTask);
+        logger.fine("Compacting journal into data file: " + getLibTaskFilePath());
+        // A journal is only replayed onto the snapshot it was started from, so an interrupted compaction
+        // leaves a stale journal that is ignored, and must be retried on the next save
+        isCompactionNeeded = true;
+        ListChangeLog<Patron> patronChangeLog = libTask.getPatronChangeLog();
+        ListChangeLog<Book> bookChangeLog = libTask.getBookChangeLog();
+        snapshotStorage.saveLibTask(libTask, getLibTaskFilePath());
+        Files.deleteIfExists(getJournalFilePath());
+        savedPatronChangeLog = patronChangeLog;
+        savedBookChangeLog = bookChangeLog;
+        journalRecordCount = 0;
+        isCompactionNeeded = false;
+    }
+
+    /**
+     * Returns true if the journal exists and was started from the current data file.
+     * A journal with an incomplete header is treated as not started from it.
+     */
+    private boolean isJournalOfDataFile() throws IOException {
+        Path journalFilePath = getJournalFilePath();
+        if (!Files.exists(journalFilePath)) {
+            return false;
+        }
+        String header;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            header = reader.readLine();
+        }
+        if (header == null) {
+            return false;
+        }
+        try {
+            return JsonUtil.fromJsonString(header, JsonAdaptedJournalHeader.class).isHeaderOf(getLibTaskFilePath());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies the entries in the journal to {@code patrons} and {@code books}, as read from the snapshot.
+     * A journal that was not started from the snapshot is ignored, and so is an incomplete last entry,
+     * which is left behind if the app stops while appending to the journal.
+     */
+    private void replayJournal(List<Patron> patrons, List<Book> books, boolean isJournalOfSnapshot)
+            throws DataConversionException, IOException {
+        Path journalFilePath = getJournalFilePath();
+        journalRecordCount = 0;
+        isCompactionNeeded = true;
+        if (!Files.exists(journalFilePath)) {
+            isCompactionNeeded = false;
+            return;
+        }
+        if (!isJournalOfSnapshot) {
+            logger.warning("Ignoring journal that does not belong to data file: " + journalFilePath);
+            return;
+        }
+
+        // The first line is the header
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal: " + journalFilePath);
+                    return;
+                }
+                throw new DataConversionException(e);
+            }
+
+            try {
+                entry.applyTo(patrons, books);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in entry " + i + " of " + journalFilePath + ": "
+                        + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            journalRecordCount += entry.getRecordCount();
+        }
+        isCompactionNeeded = false;
+    }
+
+    /**
+     * Appends {@code entry} to the journal as a single line, and forces it to the disk.
+     * A failed append may leave an incomplete line that later entries cannot follow, so the next save compacts.
+     */
+    private void appendToJournal(JsonAdaptedJournalEntry entry) throws IOException {
+        Path journalFilePath = getJournalFilePath();
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(journalFilePath)) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalHeader.of(getLibTaskFilePath())))
+                    .append(System.lineSeparator());
+        }
+        lines.append(JsonUtil.toCompactJsonString(entry)).append(System.lineSeparator());
+        try {
+            FileUtil.appendToFile(journalFilePath, lines.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            isCompactionNeeded = true;
+            throw e;
+        }
+        journalRecordCount += entry.getRecordCount();
+    }
+}
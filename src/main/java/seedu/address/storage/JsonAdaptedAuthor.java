@@ -43,7 +43,7 @@ public class JsonAdaptedAuthor {
         if (!Author.isValidAuthor(authorName)) {
             throw new IllegalValueException(Author.MESSAGE_CONSTRAINTS);
         }
-        return new Author(authorName);
+        return Author.of(authorName);
     }
 
 }
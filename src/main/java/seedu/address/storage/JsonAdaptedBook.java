@@ -1,12 +1,15 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -15,21 +18,29 @@ import seedu.address.model.book.Book;
 import seedu.address.model.book.BookName;
 import seedu.address.model.book.BookStatus;
 import seedu.address.model.book.Isbn;
+import seedu.address.model.patron.Id;
 import seedu.address.model.patron.Patron;
 import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Book}.
+ * Each requester is stored either by the {@link Id} of a patron in the patron list, or in full.
  */
 class JsonAdaptedBook {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Book's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_PATRON = "Book refers to patron %s, who is not in the patron list!";
     private final String isbn;
     private final String bookName;
     private final List<JsonAdaptedAuthor> authors = new ArrayList<>();
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
     private final String timeAdded;
     private final JsonAdaptedBookStatus bookStatus;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> requesterIds = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedPatron> requesters = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long copyId;
 
     /**
      * Constructs a {@code JsonAdaptedBook} with the given book details.
@@ -40,7 +51,9 @@ class JsonAdaptedBook {
         @JsonProperty("authors") List<JsonAdaptedAuthor> authors,
         @JsonProperty("timeAdded") String timeAdded,
         @JsonProperty("bookStatus") JsonAdaptedBookStatus bookStatus,
-        @JsonProperty("requesters") List<JsonAdaptedPatron> requesters) {
+        @JsonProperty("requesters") List<JsonAdaptedPatron> requesters,
+        @JsonProperty("requesterIds") List<String> requesterIds,
+        @JsonProperty("copyId") Long copyId) {
         this.bookName = bookName;
         this.isbn = isbn;
         if (tagged != null) {
@@ -54,12 +67,33 @@ class JsonAdaptedBook {
         if (requesters != null) {
             this.requesters.addAll(requesters);
         }
+        if (requesterIds != null) {
+            this.requesterIds.addAll(requesterIds);
+        }
+        this.copyId = copyId;
     }
 
     /**
-     * Converts a given {@code Book} into this class for Jackson use.
+     * Constructs a {@code JsonAdaptedBook} with the given book details, and the requesters in full.
+     */
+    public JsonAdaptedBook(String bookName, String isbn, List<JsonAdaptedTag> tagged, List<JsonAdaptedAuthor> authors,
+        String timeAdded, JsonAdaptedBookStatus bookStatus, List<JsonAdaptedPatron> requesters) {
+        this(bookName, isbn, tagged, authors, timeAdded, bookStatus, requesters, null, null);
+    }
+
+    /**
+     * Converts a given {@code Book} into this class for Jackson use, with the borrower and requesters in full.
      */
     public JsonAdaptedBook(Book source) {
+        this(source, Collections.emptyMap());
+    }
+
+    /**
+     * Converts a given {@code Book} into this class for Jackson use.
+     * The borrower and requesters are stored by their {@code Id} if they are the patrons with those ids
+     * in {@code patronsById}.
+     */
+    public JsonAdaptedBook(Book source, Map<Id, Patron> patronsById) {
         bookName = source.getBookName().fullBookName;
         isbn = source.getIsbn().toString();
         tagged.addAll(source.getTags().stream()
@@ -69,10 +103,15 @@ class JsonAdaptedBook {
                 .map(JsonAdaptedAuthor::new)
                 .collect(Collectors.toList()));
         timeAdded = Long.toString(source.getTimeAdded());
-        bookStatus = new JsonAdaptedBookStatus(source.getBookStatus());
-        requesters.addAll(source.getRequesters().stream()
-                .map(JsonAdaptedPatron::new)
-                .collect(Collectors.toList()));
+        bookStatus = new JsonAdaptedBookStatus(source.getBookStatus(), patronsById);
+        for (Patron requester : source.getRequesters()) {
+            if (isInPatronList(requester, patronsById)) {
+                requesterIds.add(requester.getId().value);
+            } else {
+                requesters.add(new JsonAdaptedPatron(requester));
+            }
+        }
+        copyId = source.hasCopyId() ? source.getCopyId() : null;
     }
 
     /**
@@ -81,11 +120,25 @@ class JsonAdaptedBook {
      * @throws IllegalValueException if there were any data constraints violated in the adapted book.
      */
     public Book toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyMap());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted book object into the model's {@code Book} object,
+     * looking up the borrower and requesters stored by id in {@code patronsById}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted book,
+     *     or if the borrower or some requester is not in {@code patronsById}.
+     */
+    public Book toModelType(Map<Id, Patron> patronsById) throws IllegalValueException {
         final List<Tag> bookTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             bookTags.add(tag.toModelType());
         }
         final List<Patron> bookRequesters = new ArrayList<>();
+        for (String requesterId : requesterIds) {
+            bookRequesters.add(findPatron(requesterId, patronsById));
+        }
         for (JsonAdaptedPatron requester : requesters) {
             bookRequesters.add(requester.toModelType());
         }
@@ -119,17 +172,51 @@ class JsonAdaptedBook {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     BookStatus.class.getSimpleName()));
         }
-        final BookStatus modelBookStatus = bookStatus.toModelType();
+        final BookStatus modelBookStatus = bookStatus.toModelType(patronsById);
 
         if (timeAdded == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Long.class.getSimpleName()));
         }
+        final long timeBookAdded;
         try {
-            final long timeBookAdded = Long.parseLong(timeAdded);
-            return new Book(modelName, modelIsbn, bookAuthors, modelTags, timeBookAdded, modelBookStatus,
-                    modelRequesters);
+            timeBookAdded = Long.parseLong(timeAdded);
         } catch (NumberFormatException e) {
             throw new IllegalValueException(Book.TIME_ADDED_MESSAGE_CONSTRAINTS);
         }
+        final Book book = new Book(modelName, modelIsbn, bookAuthors, modelTags, timeBookAdded, modelBookStatus,
+                modelRequesters);
+
+        // Books saved before copy ids were introduced are given one when they are added to the book list
+        if (copyId == null) {
+            return book;
+        }
+        if (!Book.isValidCopyId(copyId)) {
+            throw new IllegalValueException(Book.COPY_ID_MESSAGE_CONSTRAINTS);
+        }
+        return book.withCopyId(copyId);
+    }
+
+    /**
+     * Returns true if {@code patron} is the patron with its id in {@code patronsById}, so that it can be stored
+     * by its id alone.
+     */
+    static boolean isInPatronList(Patron patron, Map<Id, Patron> patronsById) {
+        return patron.equals(patronsById.get(patron.getId()));
+    }
+
+    /**
+     * Returns the patron with the id {@code id} in {@code patronsById}.
+     *
+     * @throws IllegalValueException if {@code id} is not a valid id, or if there is no such patron.
+     */
+    static Patron findPatron(String id, Map<Id, Patron> patronsById) throws IllegalValueException {
+        if (id == null || !Id.isValidId(id)) {
+            throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+        }
+        Patron patron = patronsById.get(new Id(id));
+        if (patron == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_PATRON, id));
+        }
+        return patron;
     }
 }
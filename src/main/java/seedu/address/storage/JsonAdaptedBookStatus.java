@@ -1,10 +1,11 @@
 package seedu.address.storage;
 
-import static seedu.address.model.book.BookStatus.VALIDATION_REGEX;
-import static seedu.address.model.book.BookStatus.isValidStatus;
 import static seedu.address.model.book.BookStatusType.AVAILABLE;
 import static seedu.address.model.book.BookStatusType.BORROWED;
 
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -14,15 +15,19 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.book.BookStatus;
 import seedu.address.model.book.BookStatusType;
+import seedu.address.model.patron.Id;
 import seedu.address.model.patron.Patron;
 
 /**
  * Jackson-friendly version of {@link BookStatus}.
+ * The borrower is stored either by the {@link Id} of a patron in the patron list, or in full.
  */
 public class JsonAdaptedBookStatus {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "BookStatus's %s field is missing!";
     private final String bookStatusType;
     @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String borrowerId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final JsonAdaptedPatron borrower;
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String borrowDate;
@@ -36,19 +41,44 @@ public class JsonAdaptedBookStatus {
     public JsonAdaptedBookStatus(@JsonProperty("bookStatusType") String bookStatusType,
                                  @JsonProperty("borrower") JsonAdaptedPatron borrower,
                                  @JsonProperty("borrowDate") String borrowDate,
-                                 @JsonProperty("returnDate") String returnDate) {
+                                 @JsonProperty("returnDate") String returnDate,
+                                 @JsonProperty("borrowerId") String borrowerId) {
         this.bookStatusType = bookStatusType;
         this.borrower = borrower;
         this.borrowDate = borrowDate;
         this.returnDate = returnDate;
+        this.borrowerId = borrowerId;
     }
 
     /**
-     * Converts a given {@code Book} into this class for Jackson use.
+     * Constructs a {@code JsonAdaptedBookStatus} with the given book status details, and the borrower in full.
+     */
+    public JsonAdaptedBookStatus(String bookStatusType, JsonAdaptedPatron borrower, String borrowDate,
+                                 String returnDate) {
+        this(bookStatusType, borrower, borrowDate, returnDate, null);
+    }
+
+    /**
+     * Converts a given {@code Book} into this class for Jackson use, with the borrower in full.
      */
     public JsonAdaptedBookStatus(BookStatus source) {
+        this(source, Collections.emptyMap());
+    }
+
+    /**
+     * Converts a given {@code Book} into this class for Jackson use.
+     * The borrower is stored by its {@code Id} if it is the patron with that id in {@code patronsById}.
+     */
+    public JsonAdaptedBookStatus(BookStatus source, Map<Id, Patron> patronsById) {
         bookStatusType = source.getBookStatusTypeString();
-        borrower = source.getBorrower().map(JsonAdaptedPatron::new).orElse(null);
+        Optional<Patron> sourceBorrower = source.getBorrower();
+        if (sourceBorrower.isPresent() && JsonAdaptedBook.isInPatronList(sourceBorrower.get(), patronsById)) {
+            borrowerId = sourceBorrower.get().getId().value;
+            borrower = null;
+        } else {
+            borrowerId = null;
+            borrower = sourceBorrower.map(JsonAdaptedPatron::new).orElse(null);
+        }
         borrowDate = source.isBorrowed() ? source.getBorrowDateString() : null;
         returnDate = source.isBorrowed() ? source.getReturnDateString() : null;
     }
@@ -59,6 +89,17 @@ public class JsonAdaptedBookStatus {
      * @throws IllegalValueException if there were any data constraints violated in the adapted book status.
      */
     public BookStatus toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyMap());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted book status object into the model's {@code BookStatus} object,
+     * looking up a borrower stored by id in {@code patronsById}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted book status,
+     *     or if the borrower is not in {@code patronsById}.
+     */
+    public BookStatus toModelType(Map<Id, Patron> patronsById) throws IllegalValueException {
         final BookStatusType modelStatusType;
         if (bookStatusType == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -72,35 +113,38 @@ public class JsonAdaptedBookStatus {
             throw new IllegalValueException(BookStatusType.MESSAGE_CONSTRAINTS);
         }
 
+        if (borrower != null && borrowerId != null) {
+            throw new IllegalValueException(BookStatus.MESSAGE_CONSTRAINTS);
+        }
         final Optional<Patron> modelBorrower;
-        if (borrower == null) {
-            modelBorrower = Optional.empty();
-        } else {
+        if (borrowerId != null) {
+            modelBorrower = Optional.of(JsonAdaptedBook.findPatron(borrowerId, patronsById));
+        } else if (borrower != null) {
             modelBorrower = Optional.of(borrower.toModelType());
-        }
-
-        final Optional<String> modelBorrowDate;
-        final Optional<String> modelReturnDate;
-        if (borrowDate == null) {
-            modelBorrowDate = Optional.empty();
-        } else if (!borrowDate.matches(VALIDATION_REGEX)) {
-            throw new IllegalValueException(BookStatus.MESSAGE_CONSTRAINTS);
         } else {
-            modelBorrowDate = Optional.of(borrowDate);
+            modelBorrower = Optional.empty();
         }
 
-        if (returnDate == null) {
-            modelReturnDate = Optional.empty();
-        } else if (!returnDate.matches(VALIDATION_REGEX)) {
-            throw new IllegalValueException(BookStatus.MESSAGE_CONSTRAINTS);
-        } else {
-            modelReturnDate = Optional.of(returnDate);
-        }
+        final Optional<LocalDate> modelBorrowDate = parseDate(borrowDate);
+        final Optional<LocalDate> modelReturnDate = parseDate(returnDate);
 
-        if (!isValidStatus(modelStatusType, modelBorrower, modelBorrowDate, modelReturnDate)) {
-            throw new IllegalValueException(BookStatus.MESSAGE_CONSTRAINTS);
+        if (modelStatusType == AVAILABLE
+                && modelBorrower.isEmpty() && modelBorrowDate.isEmpty() && modelReturnDate.isEmpty()) {
+            return BookStatus.createAvailableBookStatus();
+        }
+        if (modelStatusType == BORROWED
+                && modelBorrower.isPresent() && modelBorrowDate.isPresent() && modelReturnDate.isPresent()) {
+            return BookStatus.createBorrowedBookStatus(modelBorrower.get(), modelBorrowDate.get(),
+                    modelReturnDate.get());
         }
+        throw new IllegalValueException(BookStatus.MESSAGE_CONSTRAINTS);
+    }
 
-        return new BookStatus(modelStatusType, modelBorrower, modelBorrowDate, modelReturnDate);
+    private static Optional<LocalDate> parseDate(String date) throws IllegalValueException {
+        if (date == null) {
+            return Optional.empty();
+        }
+        return Optional.of(BookStatus.parseDate(date)
+                .orElseThrow(() -> new IllegalValueException(BookStatus.MESSAGE_CONSTRAINTS)));
     }
 }
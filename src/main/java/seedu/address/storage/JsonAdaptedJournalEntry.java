@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.book.Book;
+import seedu.address.model.patron.Patron;
+
+/**
+ * Jackson-friendly version of all the changes to LibTask made by a single save, as written on one line of the
+ * journal of a {@link JournaledLibTaskStorage}.
+ * A save is written as a single line so that it is either replayed whole or not at all, as a save cut short by a
+ * crash leaves an incomplete last line, which is ignored.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is not a valid save of LibTask!";
+
+    private final List<JsonAdaptedJournalRecord> records;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given records, in the order they are applied.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("records") List<JsonAdaptedJournalRecord> records) {
+        this.records = records == null ? null : new ArrayList<>(records);
+    }
+
+    /**
+     * Returns the number of records in this entry.
+     */
+    public int getRecordCount() {
+        return records == null ? 0 : records.size();
+    }
+
+    /**
+     * Applies the records of this entry, in order, to the given patron and book lists.
+     *
+     * @throws IllegalValueException if this entry or any of its records is invalid or does not fit the given lists.
+     */
+    public void applyTo(List<Patron> patrons, List<Book> books) throws IllegalValueException {
+        if (records == null || records.isEmpty() || records.contains(null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+        for (JsonAdaptedJournalRecord record : records) {
+            record.applyTo(patrons, books);
+        }
+    }
+}
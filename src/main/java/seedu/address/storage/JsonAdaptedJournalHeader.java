@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly identification of the snapshot file that a journal of a {@link JournaledLibTaskStorage}
+ * applies to. A journal is only replayed onto the exact snapshot it was started from.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final long snapshotSize;
+    private final long snapshotLastModified;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given snapshot details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+                                    @JsonProperty("snapshotLastModified") long snapshotLastModified) {
+        this.snapshotSize = snapshotSize;
+        this.snapshotLastModified = snapshotLastModified;
+    }
+
+    /**
+     * Creates a header identifying the snapshot file at {@code snapshotFilePath}, which must exist.
+     */
+    public static JsonAdaptedJournalHeader of(Path snapshotFilePath) throws IOException {
+        return new JsonAdaptedJournalHeader(Files.size(snapshotFilePath),
+                Files.getLastModifiedTime(snapshotFilePath).toMillis());
+    }
+
+    /**
+     * Returns true if this header identifies the snapshot file at {@code snapshotFilePath}.
+     */
+    public boolean isHeaderOf(Path snapshotFilePath) throws IOException {
+        return Files.exists(snapshotFilePath)
+                && snapshotSize == Files.size(snapshotFilePath)
+                && snapshotLastModified == Files.getLastModifiedTime(snapshotFilePath).toMillis();
+    }
+}
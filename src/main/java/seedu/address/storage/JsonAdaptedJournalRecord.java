@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ListChange;
+import seedu.address.model.book.Book;
+import seedu.address.model.patron.Patron;
+
+/**
+ * Jackson-friendly version of a single change to the patron list or the book list of LibTask,
+ * as recorded in the journal of a {@link JournaledLibTaskStorage}.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String PATRONS_LIST = "patrons";
+    public static final String BOOKS_LIST = "books";
+    public static final String INSERT_OPERATION = "insert";
+    public static final String SET_OPERATION = "set";
+    public static final String REMOVE_OPERATION = "remove";
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is not a valid change to LibTask!";
+
+    private final String list;
+    private final String operation;
+    private final int index;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedPatron patron;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedBook book;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("list") String list, @JsonProperty("operation") String operation,
+                                    @JsonProperty("index") int index,
+                                    @JsonProperty("patron") JsonAdaptedPatron patron,
+                                    @JsonProperty("book") JsonAdaptedBook book) {
+        this.list = list;
+        this.operation = operation;
+        this.index = index;
+        this.patron = patron;
+        this.book = book;
+    }
+
+    /**
+     * Creates a record of {@code change} to the patron list.
+     */
+    public static JsonAdaptedJournalRecord ofPatron(ListChange<Patron> change) {
+        Patron patron = change.getItem();
+        return new JsonAdaptedJournalRecord(PATRONS_LIST, toOperation(change.getType()), change.getIndex(),
+                patron == null ? null : new JsonAdaptedPatron(patron), null);
+    }
+
+    /**
+     * Creates a record of {@code change} to the book list.
+     */
+    public static JsonAdaptedJournalRecord ofBook(ListChange<Book> change) {
+        Book book = change.getItem();
+        return new JsonAdaptedJournalRecord(BOOKS_LIST, toOperation(change.getType()), change.getIndex(),
+                null, book == null ? null : new JsonAdaptedBook(book));
+    }
+
+    private static String toOperation(ListChange.Type type) {
+        switch (type) {
+        case INSERT:
+            return INSERT_OPERATION;
+        case SET:
+            return SET_OPERATION;
+        case REMOVE:
+            return REMOVE_OPERATION;
+        default:
+            throw new AssertionError("Unknown change type: " + type);
+        }
+    }
+
+    /**
+     * Applies this record to the given patron and book lists.
+     *
+     * @throws IllegalValueException if this record is invalid or does not fit the given lists.
+     */
+    public void applyTo(List<Patron> patrons, List<Book> books) throws IllegalValueException {
+        if (PATRONS_LIST.equals(list)) {
+            applyTo(patrons, patron == null ? null : patron.toModelType());
+        } else if (BOOKS_LIST.equals(list)) {
+            applyTo(books, book == null ? null : book.toModelType());
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+    }
+
+    private <T> void applyTo(List<T> items, T item) throws IllegalValueException {
+        boolean isRemove = REMOVE_OPERATION.equals(operation);
+        boolean isInsert = INSERT_OPERATION.equals(operation);
+        boolean isSet = SET_OPERATION.equals(operation);
+        int maxIndex = isInsert ? items.size() : items.size() - 1;
+        if (index < 0 || index > maxIndex || (isRemove == (item != null))) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+
+        if (isRemove) {
+            items.remove(index);
+        } else if (isInsert) {
+            items.add(index, item);
+        } else if (isSet) {
+            items.set(index, item);
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+    }
+}
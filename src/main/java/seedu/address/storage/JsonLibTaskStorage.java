@@ -3,28 +3,53 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.LibTask;
 import seedu.address.model.ReadOnlyLibTask;
 
 /**
  * A class to access LibTask data stored as a json file on the hard disk.
+ *
+ * Each save keeps the previous versions of the file as {@link RotatingBackups}, which are read instead if the file
+ * is missing or corrupted.
  */
 public class JsonLibTaskStorage implements LibTaskStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonLibTaskStorage.class);
 
     private Path filePath;
+    private final RotatingBackups backups;
+    private Path lastReadFilePath;
 
     public JsonLibTaskStorage(Path filePath) {
+        this(filePath, new RotatingBackups());
+    }
+
+    /**
+     * Creates a {@code JsonLibTaskStorage} that keeps {@code backupCount} backups of each file it saves.
+     */
+    public JsonLibTaskStorage(Path filePath, int backupCount) {
+        this(filePath, new RotatingBackups(backupCount));
+    }
+
+    /**
+     * Creates a {@code JsonLibTaskStorage} that writes each file it saves through {@code backups}.
+     */
+    public JsonLibTaskStorage(Path filePath, RotatingBackups backups) {
+        requireNonNull(backups);
         this.filePath = filePath;
+        this.backups = backups;
     }
 
     public Path getLibTaskFilePath() {
@@ -38,25 +63,85 @@ public class JsonLibTaskStorage implements LibTaskStorage {
 
     /**
      * Similar to {@link #readLibTask()}.
+     * If the file is missing or not in the correct format, the newest backup in the correct format is read instead.
+     * A file in an older format version is migrated, by saving it again in the current format.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if the file and all its backups are not in the correct format.
      */
     public Optional<ReadOnlyLibTask> readLibTask(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableLibTask> jsonLibTask = JsonUtil.readJsonFile(
-                filePath, JsonSerializableLibTask.class);
-        if (!jsonLibTask.isPresent()) {
+        lastReadFilePath = null;
+        DataConversionException fileException = null;
+        try {
+            Optional<ReadOnlyLibTask> libTask = readLibTaskFile(filePath, true);
+            if (libTask.isPresent()) {
+                lastReadFilePath = filePath;
+                return libTask;
+            }
+        } catch (DataConversionException e) {
+            fileException = e;
+        }
+
+        for (Path backupFilePath : backups.getBackupFilePaths(filePath)) {
+            try {
+                Optional<ReadOnlyLibTask> libTask = readLibTaskFile(backupFilePath, false);
+                if (libTask.isPresent()) {
+                    logger.warning("Data file " + filePath + " is missing or corrupted, using backup "
+                            + backupFilePath);
+                    lastReadFilePath = backupFilePath;
+                    return libTask;
+                }
+            } catch (DataConversionException e) {
+                logger.warning("Ignoring corrupted backup " + backupFilePath);
+            }
+        }
+
+        if (fileException != null) {
+            throw fileException;
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Path> getLastReadFilePath() {
+        return Optional.ofNullable(lastReadFilePath);
+    }
+
+    /**
+     * Reads the file at {@code filePath} with a streaming parser, which converts each patron and book as it is read.
+     * If {@code shouldMigrate} is true and the file is in an older format version, it is saved in the current one.
+     */
+    private Optional<ReadOnlyLibTask> readLibTaskFile(Path filePath, boolean shouldMigrate)
+            throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonLibTask.get().toModelType());
+        LibTask libTask = new LibTask();
+        int version;
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            version = JsonSerializableLibTask.readModelType(parser, libTask);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+
+        if (shouldMigrate && version < JsonSerializableLibTask.CURRENT_VERSION) {
+            logger.info("Migrating " + filePath + " from format version " + version + " to "
+                    + JsonSerializableLibTask.CURRENT_VERSION);
+            try {
+                saveLibTask(libTask, filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to migrate " + filePath + ", it will be migrated on the next save: " + e);
+            }
+        }
+        return Optional.of(libTask);
     }
 
     @Override
@@ -73,8 +158,8 @@ public class JsonLibTaskStorage implements LibTaskStorage {
         requireNonNull(libTask);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableLibTask(libTask), filePath);
+        String content = JsonUtil.toJsonString(new JsonSerializableLibTask(libTask));
+        backups.write(filePath, content.getBytes(StandardCharsets.UTF_8));
     }
 
 }
@@ -1,27 +1,48 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.LibTask;
 import seedu.address.model.ReadOnlyLibTask;
 import seedu.address.model.book.Book;
+import seedu.address.model.patron.Id;
 import seedu.address.model.patron.Patron;
 
 /**
  * An Immutable LibTask that is serializable to JSON format.
+ *
+ * Since version 2 of the format, the borrowers and requesters of books are stored by the {@link Id} of a patron
+ * in the patron list, instead of in full. Data in version 1 is still read, as books may store patrons in full.
  */
 @JsonRootName(value = "libTask")
+@JsonPropertyOrder({"version", "patrons", "books"})
 class JsonSerializableLibTask {
 
     public static final String MESSAGE_DUPLICATE_PATRON = "Patrons list contains duplicate patron(s).";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data is in an unsupported format version: %d";
 
+    /** The version of data saved without a version, before patrons were stored by id. */
+    public static final int FIRST_VERSION = 1;
+    public static final int CURRENT_VERSION = 2;
+
+    /** Number of records read from a parser before they are converted together. */
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+
+    private final int version;
     private final List<JsonAdaptedPatron> patrons = new ArrayList<>();
     private final List<JsonAdaptedBook> books = new ArrayList<>();
 
@@ -29,8 +50,10 @@ class JsonSerializableLibTask {
      * Constructs a {@code JsonSerializableLibTask} with the given patrons.
      */
     @JsonCreator
-    public JsonSerializableLibTask(@JsonProperty("patrons") List<JsonAdaptedPatron> patrons,
+    public JsonSerializableLibTask(@JsonProperty("version") Integer version,
+                                   @JsonProperty("patrons") List<JsonAdaptedPatron> patrons,
                                    @JsonProperty("books") List<JsonAdaptedBook> books) {
+        this.version = version == null ? FIRST_VERSION : version;
         this.patrons.addAll(patrons);
         this.books.addAll(books);
     }
@@ -41,8 +64,15 @@ class JsonSerializableLibTask {
      * @param source future changes to this will not affect the created {@code JsonSerializableLibTask}.
      */
     public JsonSerializableLibTask(ReadOnlyLibTask source) {
+        version = CURRENT_VERSION;
+        Map<Id, Patron> patronsById = new HashMap<>();
+        for (Patron patron : source.getPatronList()) {
+            patronsById.put(patron.getId(), patron);
+        }
         patrons.addAll(source.getPatronList().stream().map(JsonAdaptedPatron::new).collect(Collectors.toList()));
-        books.addAll(source.getBookList().stream().map(JsonAdaptedBook::new).collect(Collectors.toList()));
+        books.addAll(source.getBookList().stream()
+                .map(book -> new JsonAdaptedBook(book, patronsById))
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -51,19 +81,123 @@ class JsonSerializableLibTask {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public LibTask toModelType() throws IllegalValueException {
+        checkVersion(version);
         LibTask libTask = new LibTask();
-        for (JsonAdaptedPatron jsonAdaptedPatron : patrons) {
-            Patron patron = jsonAdaptedPatron.toModelType();
+        Map<Id, Patron> patronsById = new HashMap<>();
+        addPatrons(libTask, patronsById, patrons);
+        addBooks(libTask, patronsById, books);
+        return libTask;
+    }
+
+    /**
+     * Reads a LibTask in the JSON format of this class from {@code parser} into {@code libTask}, which should be
+     * empty. Patrons and books are converted to the model's type in batches as they are read, so that the JSON
+     * data is never held in memory as a whole.
+     *
+     * @return The format version of the data read.
+     * @throws IOException if the data is not in the JSON format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static int readModelType(JsonParser parser, LibTask libTask) throws IOException, IllegalValueException {
+        int version = FIRST_VERSION;
+        Map<Id, Patron> patronsById = new HashMap<>();
+        // Books can only be converted once the patrons they refer to are read
+        List<JsonAdaptedBook> booksBeforePatrons = new ArrayList<>();
+        boolean hasReadPatrons = false;
+
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (fieldName.equals("version")) {
+                expectToken(parser, token, JsonToken.VALUE_NUMBER_INT);
+                version = parser.getIntValue();
+                checkVersion(version);
+            } else if (fieldName.equals("patrons")) {
+                expectToken(parser, token, JsonToken.START_ARRAY);
+                List<JsonAdaptedPatron> batch = new ArrayList<>();
+                while (hasNextElement(parser)) {
+                    batch.add(parser.readValueAs(JsonAdaptedPatron.class));
+                    if (batch.size() == CONVERSION_BATCH_SIZE) {
+                        addPatrons(libTask, patronsById, batch);
+                        batch.clear();
+                    }
+                }
+                addPatrons(libTask, patronsById, batch);
+                hasReadPatrons = true;
+                addBooks(libTask, patronsById, booksBeforePatrons);
+                booksBeforePatrons.clear();
+            } else if (fieldName.equals("books")) {
+                expectToken(parser, token, JsonToken.START_ARRAY);
+                List<JsonAdaptedBook> batch = hasReadPatrons ? new ArrayList<>() : booksBeforePatrons;
+                while (hasNextElement(parser)) {
+                    batch.add(parser.readValueAs(JsonAdaptedBook.class));
+                    if (hasReadPatrons && batch.size() == CONVERSION_BATCH_SIZE) {
+                        addBooks(libTask, patronsById, batch);
+                        batch.clear();
+                    }
+                }
+                if (hasReadPatrons) {
+                    addBooks(libTask, patronsById, batch);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        addBooks(libTask, patronsById, booksBeforePatrons);
+        return version;
+    }
+
+    private static void checkVersion(int version) throws IllegalValueException {
+        if (version < FIRST_VERSION || version > CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPatrons} in parallel and adds them to {@code libTask} in order.
+     */
+    private static void addPatrons(LibTask libTask, Map<Id, Patron> patronsById,
+            List<JsonAdaptedPatron> jsonAdaptedPatrons) throws IllegalValueException {
+        for (Patron patron : ParallelConverter.convertAll(jsonAdaptedPatrons, JsonAdaptedPatron::toModelType)) {
             if (libTask.hasPatron(patron)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PATRON);
             }
             libTask.addPatron(patron);
+            patronsById.put(patron.getId(), patron);
         }
-        for (JsonAdaptedBook jsonAdaptedBook : books) {
-            Book book = jsonAdaptedBook.toModelType();
+    }
+
+    /**
+     * Converts {@code jsonAdaptedBooks} in parallel, with their patrons looked up in {@code patronsById},
+     * and adds them to {@code libTask} in order.
+     */
+    private static void addBooks(LibTask libTask, Map<Id, Patron> patronsById,
+            List<JsonAdaptedBook> jsonAdaptedBooks) throws IllegalValueException {
+        for (Book book : ParallelConverter.convertAll(jsonAdaptedBooks, book -> book.toModelType(patronsById))) {
             libTask.addBook(book);
         }
-        return libTask;
+    }
+
+    /**
+     * Moves {@code parser} to the next element of the array it is in.
+     *
+     * @return False if the end of the array is reached.
+     */
+    private static boolean hasNextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of data");
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
     }
 
 }
@@ -31,6 +31,15 @@ public interface LibTaskStorage {
      */
     Optional<ReadOnlyLibTask> readLibTask(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns the path of the file that the data returned by the last successful read came from, which is not the
+     * file asked for if a backup of it was read instead.
+     * Returns {@code Optional.empty()} if nothing was read, or if the storage does not keep track of it.
+     */
+    default Optional<Path> getLastReadFilePath() {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlyLibTask} to the storage.
      * @param libTask cannot be null.
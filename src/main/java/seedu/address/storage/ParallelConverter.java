@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts lists of stored records into the model's types in parallel on a fork-join pool, as the validation
+ * of each record is independent of the others.
+ *
+ * The results are in the same order as the records, and a failed conversion fails with the same exception as
+ * converting the records one at a time would, i.e. that of the first record that cannot be converted.
+ */
+final class ParallelConverter {
+
+    /** Lists with fewer records than this are converted in the calling thread. */
+    static final int MIN_PARALLEL_SIZE = 256;
+    /** Number of records converted by one task. */
+    static final int CHUNK_SIZE = 64;
+
+    /**
+     * Converts a stored record into the model's type.
+     */
+    @FunctionalInterface
+    interface RecordConverter<T, R> {
+        R convert(T record) throws IllegalValueException;
+    }
+
+    private ParallelConverter() {}
+
+    /**
+     * Returns the results of converting each of {@code records} with {@code converter}, in order.
+     * {@code converter} must be safe to call from several threads at once.
+     *
+     * @throws IllegalValueException if any record cannot be converted.
+     */
+    static <T, R> List<R> convertAll(List<T> records, RecordConverter<T, R> converter)
+            throws IllegalValueException {
+        requireNonNull(records);
+        requireNonNull(converter);
+        if (records.size() < MIN_PARALLEL_SIZE) {
+            List<R> results = new ArrayList<>(records.size());
+            for (T record : records) {
+                results.add(converter.convert(record));
+            }
+            return results;
+        }
+
+        ConversionTask<T, R> task = new ConversionTask<>(records, converter);
+        ForkJoinPool.commonPool().invoke(task);
+        return task.getResults();
+    }
+
+    /**
+     * Converts records in chunks of {@link #CHUNK_SIZE}, splitting the records in halves until each half is
+     * at most one chunk.
+     */
+    private static class ConversionTask<T, R> extends RecursiveAction {
+        private final List<T> records;
+        private final RecordConverter<T, R> converter;
+        private final Object[] results;
+        // Index of the first record known to fail, so that later records need not be converted
+        private final AtomicInteger firstFailedIndex;
+        private final IllegalValueException[] failures;
+        private final int start;
+        private final int end;
+
+        ConversionTask(List<T> records, RecordConverter<T, R> converter) {
+            this(records, converter, new Object[records.size()], new AtomicInteger(records.size()),
+                    new IllegalValueException[records.size()], 0, records.size());
+        }
+
+        private ConversionTask(List<T> records, RecordConverter<T, R> converter, Object[] results,
+                AtomicInteger firstFailedIndex, IllegalValueException[] failures, int start, int end) {
+            this.records = records;
+            this.converter = converter;
+            this.results = results;
+            this.firstFailedIndex = firstFailedIndex;
+            this.failures = failures;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > CHUNK_SIZE) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new ConversionTask<>(records, converter, results, firstFailedIndex, failures, start, middle),
+                        new ConversionTask<>(records, converter, results, firstFailedIndex, failures, middle, end));
+                return;
+            }
+            for (int i = start; i < end && i < firstFailedIndex.get(); i++) {
+                try {
+                    results[i] = converter.convert(records.get(i));
+                } catch (IllegalValueException e) {
+                    failures[i] = e;
+                    firstFailedIndex.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Returns the results of the conversion, which must have completed.
+         *
+         * @throws IllegalValueException of the first record that failed to be converted.
+         */
+        @SuppressWarnings("unchecked")
+        List<R> getResults() throws IllegalValueException {
+            int failedIndex = firstFailedIndex.get();
+            if (failedIndex < results.length) {
+                throw failures[failedIndex];
+            }
+            return (List<R>) Arrays.asList(results);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Writes data files atomically while keeping their previous versions as rotating backups, e.g. libtask.json.bak1
+ * for the newest backup of libtask.json, which a storage reads instead if the file is missing or corrupted.
+ *
+ * The new version of a file is forced to the disk before the file is touched, and then replaces it in a single
+ * move, so the file always holds a complete version, either the old or the new one.
+ */
+public class RotatingBackups {
+
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private final int backupCount;
+
+    public RotatingBackups() {
+        this(DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code RotatingBackups} that keeps {@code backupCount} backups of each file it writes.
+     */
+    public RotatingBackups(int backupCount) {
+        checkArgument(backupCount >= 0);
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th newest backup of the file at {@code filePath}, starting from 1.
+     */
+    public static Path getBackupFilePath(Path filePath, int generation) {
+        checkArgument(generation > 0);
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Returns the paths of the backups kept of the file at {@code filePath}, newest first.
+     */
+    public List<Path> getBackupFilePaths(Path filePath) {
+        List<Path> backupFilePaths = new ArrayList<>();
+        for (int generation = 1; generation <= backupCount; generation++) {
+            backupFilePaths.add(getBackupFilePath(filePath, generation));
+        }
+        return backupFilePaths;
+    }
+
+    /**
+     * Writes {@code content} to the file at {@code filePath}, creating its missing parent directories.
+     * The content is written to a temporary file and forced to the disk first. Then the backups are rotated,
+     * the file is copied to the newest backup and the temporary file is moved over the file.
+     */
+    public void write(Path filePath, byte[] content) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = FileUtil.writeToTempFile(filePath, content);
+        try {
+            rotate(filePath);
+            replace(tempFile, filePath);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves {@code tempFile} over the file at {@code filePath}, which is the last step of a write.
+     */
+    protected void replace(Path tempFile, Path filePath) throws IOException {
+        FileUtil.moveReplacingExisting(tempFile, filePath);
+    }
+
+    /**
+     * Moves each backup of the file at {@code filePath} to the next older one, discarding the oldest backup,
+     * and copies the file to the newest backup. The file itself is left in place.
+     */
+    private void rotate(Path filePath) throws IOException {
+        if (backupCount == 0 || !Files.exists(filePath)) {
+            return;
+        }
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backupFilePath = getBackupFilePath(filePath, generation);
+            if (Files.exists(backupFilePath)) {
+                FileUtil.moveReplacingExisting(backupFilePath, getBackupFilePath(filePath, generation + 1));
+            }
+        }
+        Files.copy(filePath, getBackupFilePath(filePath, 1), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.COPY_ATTRIBUTES);
+    }
+}
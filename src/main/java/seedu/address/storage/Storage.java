@@ -29,4 +29,23 @@ public interface Storage extends LibTaskStorage, UserPrefsStorage {
     @Override
     void saveLibTask(ReadOnlyLibTask libTask) throws IOException;
 
+    /**
+     * Saves a snapshot of {@code libTask} in the background, without waiting for it to be written.
+     * A failure is reported by {@link #checkLibTaskSaveFailure()} and {@link #flushLibTask()} until a later
+     * background save succeeds.
+     */
+    void saveLibTaskInBackground(ReadOnlyLibTask libTask);
+
+    /**
+     * Throws the failure of the latest background save that has finished, if it failed.
+     */
+    void checkLibTaskSaveFailure() throws IOException;
+
+    /**
+     * Waits for all background saves to be written.
+     *
+     * @throws IOException if there was any problem writing to the file in the latest background save.
+     */
+    void flushLibTask() throws IOException;
+
 }
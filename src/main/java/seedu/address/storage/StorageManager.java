@@ -1,15 +1,27 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ListChangeLog;
 import seedu.address.model.ReadOnlyLibTask;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.book.Book;
+import seedu.address.model.patron.Patron;
 
 /**
  * Manages storage of LibTask data in local storage.
@@ -20,12 +32,33 @@ public class StorageManager implements Storage {
     private LibTaskStorage libTaskStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // Background saves of LibTask run on saveExecutor, one at a time and in the order they were requested
+    private final Executor saveExecutor;
+    private final Object libTaskStorageLock = new Object();
+    private final AtomicReference<ReadOnlyLibTask> pendingLibTask = new AtomicReference<>();
+    private final AtomicReference<IOException> saveFailure = new AtomicReference<>();
+
     /**
      * Creates a {@code StorageManager} with the given {@code LibTaskStorage} and {@code UserPrefStorage}.
+     * Background saves are done on a dedicated thread.
      */
     public StorageManager(LibTaskStorage libTaskStorage, UserPrefsStorage userPrefsStorage) {
+        this(libTaskStorage, userPrefsStorage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LibTask saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code LibTaskStorage} and {@code UserPrefStorage}.
+     * Background saves are done by {@code saveExecutor}, which must run its tasks one at a time in order.
+     */
+    public StorageManager(LibTaskStorage libTaskStorage, UserPrefsStorage userPrefsStorage, Executor saveExecutor) {
+        requireNonNull(saveExecutor);
         this.libTaskStorage = libTaskStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveExecutor = saveExecutor;
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,6 +97,11 @@ public class StorageManager implements Storage {
         return libTaskStorage.readLibTask(filePath);
     }
 
+    @Override
+    public Optional<Path> getLastReadFilePath() {
+        return libTaskStorage.getLastReadFilePath();
+    }
+
     @Override
     public void saveLibTask(ReadOnlyLibTask libTask) throws IOException {
         saveLibTask(libTask, libTaskStorage.getLibTaskFilePath());
@@ -72,7 +110,84 @@ public class StorageManager implements Storage {
     @Override
     public void saveLibTask(ReadOnlyLibTask libTask, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        libTaskStorage.saveLibTask(libTask, filePath);
+        synchronized (libTaskStorageLock) {
+            libTaskStorage.saveLibTask(libTask, filePath);
+        }
+    }
+
+    @Override
+    public void saveLibTaskInBackground(ReadOnlyLibTask libTask) {
+        requireNonNull(libTask);
+        // Only the latest snapshot is written if more saves are requested before the previous one has started
+        if (pendingLibTask.getAndSet(new LibTaskSnapshot(libTask)) == null) {
+            saveExecutor.execute(this::savePendingLibTask);
+        }
+    }
+
+    @Override
+    public void checkLibTaskSaveFailure() throws IOException {
+        IOException failure = saveFailure.get();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void flushLibTask() throws IOException {
+        CompletableFuture.runAsync(() -> {}, saveExecutor).join();
+        checkLibTaskSaveFailure();
+    }
+
+    private void savePendingLibTask() {
+        ReadOnlyLibTask libTask = pendingLibTask.getAndSet(null);
+        if (libTask == null) {
+            return;
+        }
+        try {
+            saveLibTask(libTask);
+            saveFailure.set(null);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data file in background " + StringUtil.getDetails(ioe));
+            saveFailure.set(ioe);
+        }
     }
 
+    /**
+     * An immutable copy of the patrons and books of a LibTask, along with the logs of their changes,
+     * which can be saved while the LibTask is modified.
+     */
+    private static class LibTaskSnapshot implements ReadOnlyLibTask {
+        private final ObservableList<Patron> patrons;
+        private final ObservableList<Book> books;
+        private final ListChangeLog<Patron> patronChangeLog;
+        private final ListChangeLog<Book> bookChangeLog;
+
+        private LibTaskSnapshot(ReadOnlyLibTask libTask) {
+            patrons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(libTask.getPatronList()));
+            books = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(libTask.getBookList()));
+            patronChangeLog = libTask.getPatronChangeLog();
+            bookChangeLog = libTask.getBookChangeLog();
+        }
+
+        @Override
+        public ObservableList<Patron> getPatronList() {
+            return patrons;
+        }
+
+        @Override
+        public ObservableList<Book> getBookList() {
+            return books;
+        }
+
+        @Override
+        public ListChangeLog<Patron> getPatronChangeLog() {
+            return patronChangeLog;
+        }
+
+        @Override
+        public ListChangeLog<Book> getBookChangeLog() {
+            return bookChangeLog;
+        }
+    }
 }
@@ -1,15 +1,20 @@
 package seedu.address.ui;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.ButtonType;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
@@ -24,6 +29,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_EXIT_WITHOUT_SAVING = "Your latest changes could not be saved. Exit anyway?";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -34,6 +40,7 @@ public class MainWindow extends UiPart<Stage> {
     private PatronListPanel patronListPanel;
     private BookListPanel bookListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -123,7 +130,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getLibTaskFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getLibTaskFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -163,6 +170,44 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void handleExit() {
+        if (isReadyToExit()) {
+            exit();
+        }
+    }
+
+    /**
+     * Closes the application when its window is closed, unless the user chooses to keep it open as the data could
+     * not be saved.
+     */
+    @FXML
+    private void handleCloseRequest(WindowEvent event) {
+        if (isReadyToExit()) {
+            exit();
+        } else {
+            event.consume();
+        }
+    }
+
+    /**
+     * Returns true if the data is saved, or if the user chooses to exit without saving it.
+     */
+    private boolean isReadyToExit() {
+        Optional<String> saveError = logic.finishSaving();
+        statusBarFooter.setSaveError(saveError);
+        if (saveError.isEmpty()) {
+            return true;
+        }
+
+        Alert alert = new Alert(AlertType.CONFIRMATION);
+        alert.getDialogPane().getStylesheets().add("view/DarkTheme.css");
+        alert.initOwner(primaryStage);
+        alert.setTitle("Exit");
+        alert.setHeaderText(MESSAGE_EXIT_WITHOUT_SAVING);
+        alert.setContentText(saveError.get());
+        return alert.showAndWait().filter(ButtonType.OK::equals).isPresent();
+    }
+
+    private void exit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
@@ -208,6 +253,8 @@ public class MainWindow extends UiPart<Stage> {
             logger.info("Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
+        } finally {
+            statusBarFooter.setSaveError(logic.getSaveError());
         }
     }
 }
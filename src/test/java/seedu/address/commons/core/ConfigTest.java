@@ -11,7 +11,9 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Journal LibTask changes : true\n"
+                + "Store LibTask as binary : false";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
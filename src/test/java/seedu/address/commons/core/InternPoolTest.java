@@ -0,0 +1,37 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InternPool<>(null));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InternPool<>(String::new).intern(null));
+    }
+
+    @Test
+    public void intern_equalStrings_sameInstance() {
+        InternPool<StringBuilder> pool = new InternPool<>(StringBuilder::new);
+        StringBuilder value = pool.intern("value");
+        assertSame(value, pool.intern(new String("value")));
+        assertNotSame(value, pool.intern("other value"));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        InternPool<Integer> pool = new InternPool<>(Integer::valueOf);
+        assertThrows(NumberFormatException.class, () -> pool.intern("not a number"));
+        assertEquals(0, pool.size());
+    }
+}
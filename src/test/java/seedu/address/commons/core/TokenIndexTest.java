@@ -0,0 +1,97 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TokenIndexTest {
+
+    private final TokenIndex<Integer> tokenIndex = new TokenIndex<>();
+
+    @BeforeEach
+    public void setUp() {
+        tokenIndex.add("HARRY", 1);
+        tokenIndex.add("POTTER", 1);
+        tokenIndex.add("HARRIET", 2);
+        tokenIndex.add("POTTERY", 3);
+        tokenIndex.add("AAAA", 4);
+    }
+
+    @Test
+    public void add_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tokenIndex.add(null, 1));
+        assertThrows(NullPointerException.class, () -> tokenIndex.add("HARRY", null));
+    }
+
+    @Test
+    public void getKeysWithToken() {
+        assertEquals(Set.of(1), tokenIndex.getKeysWithToken("POTTER"));
+        assertTrue(tokenIndex.getKeysWithToken("POT").isEmpty());
+    }
+
+    @Test
+    public void getKeysWithTokenStartingWith() {
+        assertEquals(Set.of(1, 2), tokenIndex.getKeysWithTokenStartingWith("HARR"));
+        assertEquals(Set.of(1, 3), tokenIndex.getKeysWithTokenStartingWith("POTTER"));
+        assertEquals(Set.of(1, 2, 3, 4), tokenIndex.getKeysWithTokenStartingWith(""));
+        assertTrue(tokenIndex.getKeysWithTokenStartingWith("HARRYS").isEmpty());
+    }
+
+    @Test
+    public void getKeysWithTokenContaining() {
+        // shorter than a gram
+        assertEquals(Set.of(1, 2), tokenIndex.getKeysWithTokenContaining("AR"));
+
+        // longer than a gram
+        assertEquals(Set.of(1, 3), tokenIndex.getKeysWithTokenContaining("OTTER"));
+        assertEquals(Set.of(2), tokenIndex.getKeysWithTokenContaining("RIE"));
+        assertEquals(Set.of(4), tokenIndex.getKeysWithTokenContaining("AAA"));
+
+        // no token with the string
+        assertTrue(tokenIndex.getKeysWithTokenContaining("HARTER").isEmpty());
+    }
+
+    @Test
+    public void getTokensWithinDistance() {
+        assertEquals(Map.of("POTTER", 0), tokenIndex.getTokensWithinDistance("POTTER", 0));
+        assertEquals(Map.of("POTTER", 1), tokenIndex.getTokensWithinDistance("PORTER", 1));
+        assertEquals(Map.of("POTTER", 0, "POTTERY", 1), tokenIndex.getTokensWithinDistance("POTTER", 1));
+
+        // too few grams to filter tokens by
+        assertEquals(Map.of("HARRY", 1), tokenIndex.getTokensWithinDistance("HARY", 2));
+
+        // no token within the distance
+        assertTrue(tokenIndex.getTokensWithinDistance("HERMIONE", 2).isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> tokenIndex.getTokensWithinDistance("HARRY", -1));
+    }
+
+    @Test
+    public void remove() {
+        tokenIndex.remove("POTTER", 1);
+        assertEquals(Set.of(3), tokenIndex.getKeysWithTokenContaining("OTTER"));
+
+        // token with a repeated gram
+        tokenIndex.remove("AAAA", 4);
+        assertTrue(tokenIndex.getKeysWithTokenContaining("AAA").isEmpty());
+        tokenIndex.add("AAAA", 5);
+        assertEquals(Set.of(5), tokenIndex.getKeysWithTokenContaining("AAA"));
+
+        // key not under token
+        tokenIndex.remove("HARRY", 2);
+        assertEquals(Set.of(1), tokenIndex.getKeysWithToken("HARRY"));
+    }
+
+    @Test
+    public void clear() {
+        tokenIndex.clear();
+        assertTrue(tokenIndex.getKeysWithTokenStartingWith("").isEmpty());
+        assertTrue(tokenIndex.getKeysWithTokenContaining("ARR").isEmpty());
+    }
+}
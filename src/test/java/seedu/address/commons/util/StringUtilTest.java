@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,37 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullStrings_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("abc", null, 1));
+    }
+
+    @Test
+    public void getEditDistance_negativeMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void getEditDistance_withinMaxDistance_distanceReturned() {
+        assertEquals(0, StringUtil.getEditDistance("", "", 0));
+        assertEquals(0, StringUtil.getEditDistance("potter", "potter", 2));
+        assertEquals(1, StringUtil.getEditDistance("poter", "potter", 2)); // insertion
+        assertEquals(1, StringUtil.getEditDistance("pottter", "potter", 2)); // deletion
+        assertEquals(2, StringUtil.getEditDistance("podder", "potter", 2)); // two replacements
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting", 3));
+        assertEquals(3, StringUtil.getEditDistance("", "abc", 3));
+    }
+
+    @Test
+    public void getEditDistance_beyondMaxDistance_maxDistancePlusOneReturned() {
+        assertEquals(2, StringUtil.getEditDistance("kitten", "sitting", 1));
+        assertEquals(1, StringUtil.getEditDistance("a", "abc", 0));
+        assertEquals(3, StringUtil.getEditDistance("harry", "potter", 2));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
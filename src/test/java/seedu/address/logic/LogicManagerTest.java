@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PATRON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.Command.PATRON_COMMAND_GROUP;
@@ -12,7 +14,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatrons.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +27,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.patron.AddPatronCommand;
 import seedu.address.logic.commands.patron.ListPatronCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -40,6 +47,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -47,7 +55,7 @@ public class LogicManagerTest {
         JsonLibTaskStorage libTaskStorage =
                 new JsonLibTaskStorage(temporaryFolder.resolve("libtask.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(libTaskStorage, userPrefsStorage);
+        storage = new StorageManager(libTaskStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -70,13 +78,14 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_commandSucceedsAndSaveErrorReported() throws Exception {
         // Setup LogicManager with JsonLibTaskIoExceptionThrowingStub
         JsonLibTaskStorage libTaskStorage =
                 new JsonLibTaskIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionLibTask.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(libTaskStorage, userPrefsStorage);
+        // Saves in the calling thread, so that the failure is reported by the command that caused it
+        StorageManager storage = new StorageManager(libTaskStorage, userPrefsStorage, Runnable::run);
         logic = new LogicManager(model, storage);
 
         // Execute add command
@@ -85,8 +94,56 @@ public class LogicManagerTest {
         Patron expectedPatron = new PatronBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPatron(expectedPatron);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddPatronCommand.MESSAGE_SUCCESS, expectedPatron),
+                expectedModel);
+        assertEquals(Optional.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), logic.getSaveError());
+        assertEquals(Optional.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), logic.finishSaving());
+    }
+
+    @Test
+    public void execute_libTaskUnchanged_libTaskNotSaved() throws Exception {
+        Path libTaskFilePath = temporaryFolder.resolve("libtask.json");
+        String addCommand = PATRON_COMMAND_GROUP + " " + Command.ADD_COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ID_DESC_AMY;
+        logic.execute(addCommand);
+        storage.flushLibTask();
+        assertTrue(Files.exists(libTaskFilePath));
+
+        Files.delete(libTaskFilePath);
+        logic.execute(PATRON_COMMAND_GROUP + " " + Command.LIST_COMMAND_WORD);
+        storage.flushLibTask();
+        assertFalse(Files.exists(libTaskFilePath));
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_saveErrorReportedOnNextCommand() throws Exception {
+        JsonLibTaskStorage libTaskStorage =
+                new JsonLibTaskIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionLibTask.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        List<Runnable> pendingSaves = new ArrayList<>();
+        logic = new LogicManager(model, new StorageManager(libTaskStorage, userPrefsStorage, pendingSaves::add));
+
+        String addCommand = PATRON_COMMAND_GROUP + " " + Command.ADD_COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ID_DESC_AMY;
+        logic.execute(addCommand);
+        pendingSaves.forEach(Runnable::run);
+
+        assertEquals(Optional.empty(), logic.getSaveError());
+
+        // the result of the next command is kept, and the save error is reported apart from it
+        String listCommand = PATRON_COMMAND_GROUP + " " + Command.LIST_COMMAND_WORD;
+        assertCommandSuccess(listCommand, ListPatronCommand.MESSAGE_SUCCESS, model);
+        assertEquals(Optional.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), logic.getSaveError());
+    }
+
+    @Test
+    public void finishSaving_libTaskModified_libTaskSaved() throws Exception {
+        Path libTaskFilePath = temporaryFolder.resolve("libtask.json");
+        model.addPatron(AMY);
+        assertEquals(Optional.empty(), logic.finishSaving());
+        assertTrue(Files.exists(libTaskFilePath));
+        assertEquals(Optional.empty(), logic.getSaveError());
     }
 
     @Test
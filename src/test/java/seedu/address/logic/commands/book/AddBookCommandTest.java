@@ -13,8 +13,10 @@ import static seedu.address.testutil.TypicalPatrons.BOB;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -29,8 +31,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyLibTask;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.book.Book;
+import seedu.address.model.book.BookSearchResult;
+import seedu.address.model.book.IndexedBookPredicate;
 import seedu.address.model.book.Isbn;
 import seedu.address.model.book.exceptions.BookNotFoundException;
+import seedu.address.model.patron.IndexedPatronPredicate;
 import seedu.address.model.patron.Patron;
 import seedu.address.testutil.BookBuilder;
 
@@ -193,6 +198,11 @@ public class AddBookCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getLibTaskVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPatron(Patron patron) {
             throw new AssertionError("This method should not be called.");
@@ -288,6 +298,21 @@ public class AddBookCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Book> getBooksDueWithin(int days) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public BookSearchResult searchBooks(IndexedBookPredicate predicate, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Patron> getPatronsMatching(IndexedPatronPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasEditedPatron(Patron oldPatron, Patron editedPatron) {
             throw new AssertionError("This method should not be called.");
@@ -317,6 +342,11 @@ public class AddBookCommandTest {
         public void updateFilteredBookList(Predicate<Book> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredBookList(Predicate<Book> predicate, Comparator<Book> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalBooks.HARRY_POTTER;
+import static seedu.address.testutil.TypicalPatrons.ALICE;
+import static seedu.address.testutil.TypicalPatrons.BOB;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.LibTask;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.book.Book;
+import seedu.address.model.book.BookStatus;
+import seedu.address.testutil.TypicalLibTask;
+
+public class DueBookCommandTest {
+
+    private Model model = new ModelManager(TypicalLibTask.getTypicalLibTask(), new UserPrefs());
+    private Model expectedModel = new ModelManager(TypicalLibTask.getTypicalLibTask(), new UserPrefs());
+
+    @Test
+    public void execute_noBooksDueSoon_noBookFound() {
+        String expectedMessage = String.format(DueBookCommand.MESSAGE_SUCCESS, 7);
+        expectedModel.updateFilteredBookList(book -> false);
+        assertCommandSuccess(new DueBookCommand(7), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredBookList());
+    }
+
+    @Test
+    public void execute_bookDueToday_bookFound() {
+        Model emptyModel = new ModelManager(new LibTask(), new UserPrefs());
+        emptyModel.addBook(HARRY_POTTER);
+        emptyModel.borrowBook(ALICE, HARRY_POTTER, BookStatus.getCurrentDateString());
+        Book dueBook = emptyModel.getFilteredBookList().get(0);
+
+        new DueBookCommand(0).execute(emptyModel);
+        assertEquals(Collections.singletonList(dueBook), emptyModel.getFilteredBookList());
+    }
+
+    @Test
+    public void execute_booksChangedAfterListing_listKeptUpToDate() {
+        Model emptyModel = new ModelManager(new LibTask(), new UserPrefs());
+        emptyModel.addBook(HARRY_POTTER);
+        emptyModel.borrowBook(ALICE, HARRY_POTTER, BookStatus.getCurrentDateString());
+        new DueBookCommand(0).execute(emptyModel);
+
+        Book dueBook = emptyModel.getFilteredBookList().get(0);
+        Book requestedDueBook = dueBook.addRequester(BOB);
+        emptyModel.setBook(dueBook, requestedDueBook);
+        assertEquals(Collections.singletonList(requestedDueBook), emptyModel.getFilteredBookList());
+
+        emptyModel.setBook(requestedDueBook, new Book(requestedDueBook, BookStatus.createAvailableBookStatus()));
+        assertTrue(emptyModel.getFilteredBookList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        DueBookCommand dueInOneDay = new DueBookCommand(1);
+
+        // same object -> returns true
+        assertTrue(dueInOneDay.equals(dueInOneDay));
+
+        // same values -> returns true
+        assertTrue(dueInOneDay.equals(new DueBookCommand(1)));
+
+        // different types -> returns false
+        assertFalse(dueInOneDay.equals(1));
+
+        // null -> returns false
+        assertFalse(dueInOneDay.equals(null));
+
+        // different days -> returns false
+        assertFalse(dueInOneDay.equals(new DueBookCommand(2)));
+    }
+}
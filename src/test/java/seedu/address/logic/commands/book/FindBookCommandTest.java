@@ -1,21 +1,35 @@
 package seedu.address.logic.commands.book;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalBooks.AI;
+import static seedu.address.testutil.TypicalBooks.HARRY_POTTER;
+import static seedu.address.testutil.TypicalBooks.MAZE_RUNNER;
+import static seedu.address.testutil.TypicalBooks.SEMAPHORE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.book.Book;
 import seedu.address.model.book.BookAuthorContainsKeywordsPredicate;
+import seedu.address.model.book.BookFuzzyKeywordsPredicate;
 import seedu.address.model.book.BookNameContainsKeywordsPredicate;
+import seedu.address.model.book.BookQuery;
+import seedu.address.model.book.BookSearchField;
 import seedu.address.model.book.BookTagContainsKeywordsPredicate;
+import seedu.address.testutil.BookBuilder;
 import seedu.address.testutil.TypicalLibTask;
 
 class FindBookCommandTest {
@@ -64,6 +78,96 @@ class FindBookCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredBookList());
     }
 
+    @Test
+    void execute_namePredicate_multipleBooksFound() throws Exception {
+        String expectedMessage = String.format(Messages.MESSAGE_BOOKS_LISTED_OVERVIEW, 2);
+        BookNameContainsKeywordsPredicate predicate = new BookNameContainsKeywordsPredicate(List.of("the "));
+        CommandResult commandResult = new FindBookCommand(predicate).execute(model);
+        assertEquals(expectedMessage, commandResult.getFeedbackToUser());
+        // the shorter name is more relevant
+        assertEquals(Arrays.asList(MAZE_RUNNER, SEMAPHORE), model.getFilteredBookList());
+    }
+
+    @Test
+    void execute_secondPage_secondPageOfBooksListed() throws Exception {
+        List<Book> copies = new ArrayList<>();
+        for (int i = 0; i < FindBookCommand.PAGE_SIZE + 5; i++) {
+            Book copy = new BookBuilder(HARRY_POTTER).withTimeAdded(i).build();
+            model.addBook(copy);
+            copies.add(copy);
+        }
+        BookNameContainsKeywordsPredicate predicate = new BookNameContainsKeywordsPredicate(List.of("potter"));
+
+        CommandResult commandResult = new FindBookCommand(predicate, 1).execute(model);
+        assertEquals(String.format(FindBookCommand.MESSAGE_BOOKS_PAGE_OVERVIEW, copies.size(), 1, 2),
+                commandResult.getFeedbackToUser());
+        assertEquals(copies.subList(0, FindBookCommand.PAGE_SIZE), model.getFilteredBookList());
+
+        commandResult = new FindBookCommand(predicate, 2).execute(model);
+        assertEquals(String.format(FindBookCommand.MESSAGE_BOOKS_PAGE_OVERVIEW, copies.size(), 2, 2),
+                commandResult.getFeedbackToUser());
+        assertEquals(copies.subList(FindBookCommand.PAGE_SIZE, copies.size()), model.getFilteredBookList());
+    }
+
+    @Test
+    void execute_pageAfterLastPage_throwsCommandException() {
+        BookNameContainsKeywordsPredicate predicate = new BookNameContainsKeywordsPredicate(List.of("the"));
+        assertCommandFailure(new FindBookCommand(predicate, 2), model,
+                String.format(FindBookCommand.MESSAGE_INVALID_PAGE, 1));
+    }
+
+    @Test
+    void execute_query_matchingBooksFound() {
+        String expectedMessage = String.format(Messages.MESSAGE_BOOKS_LISTED_OVERVIEW, 1);
+        BookQuery query = BookQuery.and(List.of(BookQuery.tagContains("Technology"),
+                BookQuery.hasStatus(BookQuery.Status.OVERDUE)));
+        FindBookCommand findBookCommand = new FindBookCommand(query);
+        expectedModel.updateFilteredBookList(query);
+        assertCommandSuccess(findBookCommand, model, expectedMessage, expectedModel);
+        assertEquals(List.of(AI), model.getFilteredBookList());
+    }
+
+    @Test
+    void equals() {
+        BookNameContainsKeywordsPredicate predicate = new BookNameContainsKeywordsPredicate(List.of("the"));
+        FindBookCommand findFirstPageCommand = new FindBookCommand(predicate);
+
+        // same values -> returns true
+        assertEquals(findFirstPageCommand, new FindBookCommand(predicate, 1));
+
+        // different page -> returns false
+        assertNotEquals(findFirstPageCommand, new FindBookCommand(predicate, 2));
+
+        // different predicate -> returns false
+        assertNotEquals(findFirstPageCommand,
+                new FindBookCommand(new BookNameContainsKeywordsPredicate(List.of("a"))));
+
+        // null -> returns false
+        assertNotEquals(null, findFirstPageCommand);
+    }
+
+    @Test
+    void execute_fuzzyTagPredicate_multipleBooksFound() {
+        String expectedMessage = String.format(Messages.MESSAGE_BOOKS_LISTED_OVERVIEW, 2);
+        BookFuzzyKeywordsPredicate predicate = new BookFuzzyKeywordsPredicate(BookSearchField.TAG,
+                List.of("Tecnology"));
+        FindBookCommand findBookCommand = new FindBookCommand(predicate);
+        expectedModel.updateFilteredBookList(predicate);
+        assertCommandSuccess(findBookCommand, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(SEMAPHORE, AI), model.getFilteredBookList());
+    }
+
+    @Test
+    void execute_fuzzyNamePredicate_closestBooksFirst() throws Exception {
+        Book harryPorter = new BookBuilder(HARRY_POTTER).withName("Harry Porter").withTimeAdded(1).build();
+        model.addBook(harryPorter);
+        model.addBook(HARRY_POTTER);
+        BookFuzzyKeywordsPredicate predicate = new BookFuzzyKeywordsPredicate(BookSearchField.NAME,
+                List.of("Potter"));
+        new FindBookCommand(predicate).execute(model);
+        assertEquals(Arrays.asList(HARRY_POTTER, harryPorter), model.getFilteredBookList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
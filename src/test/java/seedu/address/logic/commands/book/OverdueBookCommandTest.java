@@ -0,0 +1,45 @@
+package seedu.address.logic.commands.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalBooks.AI;
+import static seedu.address.testutil.TypicalPatrons.BOB;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.book.Book;
+import seedu.address.model.book.BookStatus;
+import seedu.address.testutil.TypicalLibTask;
+
+public class OverdueBookCommandTest {
+
+    private Model model = new ModelManager(TypicalLibTask.getTypicalLibTask(), new UserPrefs());
+    private Model expectedModel = new ModelManager(TypicalLibTask.getTypicalLibTask(), new UserPrefs());
+
+    @Test
+    public void execute_listOverdueBooks() {
+        String expectedMessage = OverdueBookCommand.MESSAGE_SUCCESS;
+        OverdueBookCommand command = new OverdueBookCommand();
+        expectedModel.updateFilteredBookList(Book::isOverdue);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(AI), expectedModel.getFilteredBookList());
+    }
+
+    @Test
+    public void execute_booksChangedAfterListing_listKeptUpToDate() {
+        new OverdueBookCommand().execute(model);
+        Book overdueBook = model.getFilteredBookList().get(0);
+        Book requestedOverdueBook = overdueBook.addRequester(BOB);
+        model.setBook(overdueBook, requestedOverdueBook);
+        assertEquals(Arrays.asList(requestedOverdueBook), model.getFilteredBookList());
+
+        model.setBook(requestedOverdueBook, new Book(requestedOverdueBook, BookStatus.createAvailableBookStatus()));
+        assertTrue(model.getFilteredBookList().isEmpty());
+    }
+}
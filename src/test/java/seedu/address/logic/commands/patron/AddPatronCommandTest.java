@@ -9,7 +9,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyLibTask;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.book.Book;
+import seedu.address.model.book.BookSearchResult;
+import seedu.address.model.book.IndexedBookPredicate;
+import seedu.address.model.patron.IndexedPatronPredicate;
 import seedu.address.model.patron.Patron;
 import seedu.address.testutil.PatronBuilder;
 
@@ -132,6 +137,11 @@ public class AddPatronCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getLibTaskVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPatron(Patron patron) {
             throw new AssertionError("This method should not be called.");
@@ -227,6 +237,21 @@ public class AddPatronCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Book> getBooksDueWithin(int days) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public BookSearchResult searchBooks(IndexedBookPredicate predicate, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Patron> getPatronsMatching(IndexedPatronPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasEditedPatron(Patron oldPatron, Patron editedPatron) {
             throw new AssertionError("This method should not be called.");
@@ -256,6 +281,11 @@ public class AddPatronCommandTest {
         public void updateFilteredBookList(Predicate<Book> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredBookList(Predicate<Book> predicate, Comparator<Book> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -18,6 +18,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.patron.NameContainsKeywordsPredicate;
+import seedu.address.model.patron.PatronMatchesPatternsPredicate;
 import seedu.address.testutil.TypicalLibTask;
 
 /**
@@ -74,6 +75,16 @@ public class FindPatronCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPatronList());
     }
 
+    @Test
+    public void execute_patterns_multiplePatronsFound() {
+        String expectedMessage = String.format(MESSAGE_PATRONS_LISTED_OVERVIEW, 3);
+        PatronMatchesPatternsPredicate predicate = new PatronMatchesPatternsPredicate(Arrays.asList("Ku*", "*ner@*"));
+        FindPatronCommand command = new FindPatronCommand(predicate);
+        expectedModel.updateFilteredPatronList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPatronList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.Command.BOOK_COMMAND_GROUP;
 import static seedu.address.logic.commands.Command.PATRON_COMMAND_GROUP;
 import static seedu.address.logic.commands.Command.PREVIOUS_COMMAND_WORD;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BOOK;
@@ -26,12 +27,14 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.PreviousCommand;
 import seedu.address.logic.commands.ReturnAllBooksCommand;
 import seedu.address.logic.commands.ReturnOneBookCommand;
+import seedu.address.logic.commands.book.OverdueBookCommand;
 import seedu.address.logic.commands.patron.AddPatronCommand;
 import seedu.address.logic.commands.patron.DeletePatronCommand;
 import seedu.address.logic.commands.patron.EditPatronCommand;
 import seedu.address.logic.commands.patron.EditPatronCommand.EditPatronDescriptor;
 import seedu.address.logic.commands.patron.FindPatronCommand;
 import seedu.address.logic.commands.patron.ListPatronCommand;
+import seedu.address.logic.commands.patron.OverduePatronCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.patron.NameContainsKeywordsPredicate;
 import seedu.address.model.patron.Patron;
@@ -119,6 +122,14 @@ public class LibTaskParserTest {
                 + Command.LIST_COMMAND_WORD + " 3") instanceof ListPatronCommand);
     }
 
+    @Test
+    public void parseCommand_overdue() throws Exception {
+        assertTrue(parser.parseCommand(PATRON_COMMAND_GROUP + " "
+                + Command.OVERDUE_COMMAND_WORD) instanceof OverduePatronCommand);
+        assertTrue(parser.parseCommand(BOOK_COMMAND_GROUP + " "
+                + Command.OVERDUE_COMMAND_WORD) instanceof OverdueBookCommand);
+    }
+
     @Test
     public void parseCommand_previousCommand() throws Exception {
         assertTrue(parser.parseCommand(PREVIOUS_COMMAND_WORD) instanceof PreviousCommand);
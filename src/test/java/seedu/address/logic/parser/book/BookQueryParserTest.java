@@ -0,0 +1,82 @@
+package seedu.address.logic.parser.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.book.BookQueryParser.MESSAGE_INVALID_QUERY;
+import static seedu.address.model.book.BookQuery.and;
+import static seedu.address.model.book.BookQuery.authorContains;
+import static seedu.address.model.book.BookQuery.hasStatus;
+import static seedu.address.model.book.BookQuery.isbnStartsWith;
+import static seedu.address.model.book.BookQuery.nameContains;
+import static seedu.address.model.book.BookQuery.not;
+import static seedu.address.model.book.BookQuery.or;
+import static seedu.address.model.book.BookQuery.tagContains;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.book.BookQuery;
+import seedu.address.model.book.BookQuery.Status;
+
+public class BookQueryParserTest {
+
+    private final BookQueryParser parser = new BookQueryParser();
+
+    @Test
+    public void parse_terms_success() throws Exception {
+        assertEquals(nameContains("Harry"), parser.parse("name:Harry"));
+        assertEquals(authorContains("Rowling"), parser.parse(" AUTHOR:Rowling "));
+        assertEquals(tagContains("Magic"), parser.parse("tag:Magic"));
+        assertEquals(isbnStartsWith("97803"), parser.parse("isbn:978-03"));
+        assertEquals(hasStatus(Status.AVAILABLE), parser.parse("available"));
+        assertEquals(hasStatus(Status.BORROWED), parser.parse("Borrowed"));
+        assertEquals(hasStatus(Status.OVERDUE), parser.parse("OVERDUE"));
+
+        // quoted keyword
+        assertEquals(nameContains("Harry Potter"), parser.parse("name:\"Harry Potter\""));
+        assertEquals(nameContains("Potter (Deluxe)"), parser.parse("name:\"Potter (Deluxe)\""));
+    }
+
+    @Test
+    public void parse_operators_success() throws Exception {
+        BookQuery computerScience = tagContains("ComputerScience");
+        BookQuery cormen = authorContains("Cormen");
+        BookQuery available = hasStatus(Status.AVAILABLE);
+
+        assertEquals(and(List.of(computerScience, available, cormen)),
+                parser.parse("tag:ComputerScience AND available AND author:Cormen"));
+
+        // terms next to each other are combined with AND
+        assertEquals(and(List.of(computerScience, available)), parser.parse("tag:ComputerScience available"));
+
+        // NOT before AND before OR
+        assertEquals(or(List.of(computerScience, and(List.of(not(available), cormen)))),
+                parser.parse("tag:ComputerScience or not available and author:Cormen"));
+
+        // brackets
+        assertEquals(and(List.of(or(List.of(computerScience, available)), cormen)),
+                parser.parse("(tag:ComputerScience OR available) author:Cormen"));
+        assertEquals(not(not(cormen)), parser.parse("NOT (NOT author:Cormen)"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure("", "the end of the query");
+        assertParseFailure("AND available", "\"AND\"");
+        assertParseFailure("available OR", "the end of the query");
+        assertParseFailure("NOT", "the end of the query");
+        assertParseFailure("(available", "the end of the query");
+        assertParseFailure("available)", "\")\"");
+        assertParseFailure("title:Harry", "\"title:Harry\"");
+        assertParseFailure("name:", "\"name:\"");
+        assertParseFailure("Harry", "\"Harry\"");
+        assertParseFailure("isbn:97a", "\"isbn:97a\"");
+        assertParseFailure("name:\"Harry", "\"Harry");
+    }
+
+    private void assertParseFailure(String query, String location) {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, location), () -> parser.parse(query));
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser.book;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.book.DueBookCommand;
+
+public class DueBookCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            DueBookCommand.MESSAGE_USAGE);
+
+    private DueBookCommandParser parser = new DueBookCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidDays_failure() {
+        // negative days
+        assertParseFailure(parser, "-1", MESSAGE_INVALID_FORMAT);
+
+        // not a number
+        assertParseFailure(parser, "a", MESSAGE_INVALID_FORMAT);
+
+        // too many digits
+        assertParseFailure(parser, "1234567890", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validDays_success() {
+        assertParseSuccess(parser, "0", new DueBookCommand(0));
+        assertParseSuccess(parser, " 7 ", new DueBookCommand(7));
+    }
+}
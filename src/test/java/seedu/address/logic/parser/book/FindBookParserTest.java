@@ -0,0 +1,75 @@
+package seedu.address.logic.parser.book;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.book.FindBookCommand;
+import seedu.address.model.book.BookAuthorContainsKeywordsPredicate;
+import seedu.address.model.book.BookFuzzyKeywordsPredicate;
+import seedu.address.model.book.BookNameContainsKeywordsPredicate;
+import seedu.address.model.book.BookQuery;
+import seedu.address.model.book.BookSearchField;
+import seedu.address.model.book.BookTagContainsKeywordsPredicate;
+
+public class FindBookParserTest {
+    private static final String MESSAGE_INVALID_FORMAT = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            FindBookCommand.MESSAGE_USAGE);
+
+    private FindBookParser parser = new FindBookParser();
+
+    @Test
+    public void parse_missingQuery_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " pg/2", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_multipleQueries_failure() {
+        assertParseFailure(parser, " n/Harry a/Rowling", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/Harry n/Potter", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidPage_failure() {
+        // zero page
+        assertParseFailure(parser, " n/Harry pg/0", MESSAGE_INVALID_FORMAT);
+
+        // not a number
+        assertParseFailure(parser, " n/Harry pg/two", MESSAGE_INVALID_FORMAT);
+
+        // multiple pages
+        assertParseFailure(parser, " n/Harry pg/1 pg/2", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_emptyFuzzyQuery_failure() {
+        assertParseFailure(parser, " n/~ ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidQuery_failure() {
+        assertParseFailure(parser, " q/title:Harry", String.format(BookQueryParser.MESSAGE_INVALID_QUERY,
+                "\"title:Harry\""));
+        assertParseFailure(parser, " q/available n/Harry", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " n/Harry Potter",
+                new FindBookCommand(new BookNameContainsKeywordsPredicate(List.of("Harry Potter"))));
+        assertParseSuccess(parser, " a/Rowling pg/2",
+                new FindBookCommand(new BookAuthorContainsKeywordsPredicate(List.of("Rowling")), 2));
+        assertParseSuccess(parser, " t/Magic",
+                new FindBookCommand(new BookTagContainsKeywordsPredicate(List.of("Magic"))));
+        assertParseSuccess(parser, " n/~Hary  Poter pg/3", new FindBookCommand(
+                new BookFuzzyKeywordsPredicate(BookSearchField.NAME, List.of("Hary", "Poter")), 3));
+        assertParseSuccess(parser, " q/tag:ComputerScience AND available pg/2", new FindBookCommand(
+                BookQuery.and(List.of(BookQuery.tagContains("ComputerScience"),
+                        BookQuery.hasStatus(BookQuery.Status.AVAILABLE))), 2));
+    }
+}
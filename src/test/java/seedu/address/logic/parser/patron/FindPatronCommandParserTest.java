@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.patron.FindPatronCommand;
 import seedu.address.model.patron.NameContainsKeywordsPredicate;
+import seedu.address.model.patron.PatronMatchesPatternsPredicate;
 
 public class FindPatronCommandParserTest {
 
@@ -32,4 +33,11 @@ public class FindPatronCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_patterns_returnsFindCommand() {
+        FindPatronCommand expectedFindCommand =
+                new FindPatronCommand(new PatronMatchesPatternsPredicate(Arrays.asList("Alice", "*@example.com")));
+        assertParseSuccess(parser, "Alice *@example.com", expectedFindCommand);
+    }
+
 }
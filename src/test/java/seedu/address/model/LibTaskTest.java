@@ -64,6 +64,35 @@ public class LibTaskTest {
         assertThrows(DuplicatePatronException.class, () -> libTask.resetData(newData));
     }
 
+    @Test
+    public void getVersion_modifications_versionIncreases() {
+        long version = libTask.getVersion();
+        libTask.addPatron(ALICE);
+        assertTrue(libTask.getVersion() > version);
+
+        version = libTask.getVersion();
+        libTask.addBook(HARRY_POTTER);
+        assertTrue(libTask.getVersion() > version);
+
+        version = libTask.getVersion();
+        libTask.borrowBook(ALICE, HARRY_POTTER, "31-Dec-2999");
+        assertTrue(libTask.getVersion() > version);
+
+        version = libTask.getVersion();
+        libTask.resetData(new LibTask());
+        assertTrue(libTask.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_queries_versionUnchanged() {
+        libTask.addPatron(ALICE);
+        libTask.addBook(HARRY_POTTER);
+        long version = libTask.getVersion();
+        libTask.hasPatron(ALICE);
+        libTask.hasOverdueBooks(ALICE);
+        assertEquals(version, libTask.getVersion());
+    }
+
     @Test
     public void hasPatron_nullPatron_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> libTask.hasPatron(null));
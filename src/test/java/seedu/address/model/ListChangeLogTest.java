@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ListChangeLogTest {
+
+    private final ListChangeLog<String> emptyLog = new ListChangeLog<>();
+
+    @Test
+    public void getChangesSince_sameLog_noChanges() {
+        assertEquals(Optional.of(List.of()), emptyLog.getChangesSince(emptyLog));
+    }
+
+    @Test
+    public void getChangesSince_earlierLog_changesInOrder() {
+        ListChangeLog<String> log = emptyLog.append(ListChange.insert(0, "a"));
+        ListChangeLog<String> laterLog = log.append(ListChange.set(0, "b")).append(ListChange.remove(0));
+        assertEquals(Optional.of(List.of(ListChange.set(0, "b"), ListChange.remove(0))),
+                laterLog.getChangesSince(log));
+    }
+
+    @Test
+    public void getChangesSince_sharedEarlierLog_changesOfEachBranch() {
+        ListChangeLog<String> log = emptyLog.append(ListChange.insert(0, "a"));
+        ListChangeLog<String> branch = log.append(ListChange.insert(1, "b"));
+        ListChangeLog<String> otherBranch = log.append(ListChange.insert(1, "c"));
+        assertEquals(Optional.of(List.of(ListChange.insert(1, "b"))), branch.getChangesSince(log));
+        assertEquals(Optional.of(List.of(ListChange.insert(1, "c"))), otherBranch.getChangesSince(log));
+        assertTrue(otherBranch.getChangesSince(branch).isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_laterOrUnrelatedLog_returnsEmptyOptional() {
+        ListChangeLog<String> log = emptyLog.append(ListChange.insert(0, "a"));
+        assertTrue(emptyLog.getChangesSince(log).isEmpty());
+        assertTrue(log.getChangesSince(new ListChangeLog<>()).isEmpty());
+        assertTrue(log.getChangesSince(null).isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_tooManyChanges_returnsEmptyOptional() {
+        ListChangeLog<String> log = emptyLog;
+        for (int i = 0; i < ListChangeLog.MAX_CHANGE_COUNT; i++) {
+            log = log.append(ListChange.insert(i, "a"));
+        }
+        assertEquals(ListChangeLog.MAX_CHANGE_COUNT, log.getChangesSince(emptyLog).get().size());
+        assertTrue(log.append(ListChange.remove(0)).getChangesSince(emptyLog).isEmpty());
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.book;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -43,6 +45,14 @@ public class AuthorTest {
         assertTrue(Author.isValidAuthor("J.K.Rowling")); // with dot character
     }
 
+    @Test
+    public void of_sameName_sameAuthor() {
+        assertSame(Author.of("J K Rowling"), Author.of("J K Rowling"));
+        // equal names with different spelling are kept apart, as they are displayed differently
+        assertNotSame(Author.of("J K Rowling"), Author.of("J K  Rowling"));
+        assertEquals(new Author("J K Rowling"), Author.of("J K Rowling"));
+    }
+
     @Test
     public void equals() {
         // Differ by spaces -> returns true
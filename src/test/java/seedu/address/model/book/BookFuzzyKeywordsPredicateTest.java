@@ -0,0 +1,104 @@
+package seedu.address.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.BookBuilder;
+
+public class BookFuzzyKeywordsPredicateTest {
+
+    @Test
+    public void constructor_invalidKeywords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new BookFuzzyKeywordsPredicate(BookSearchField.NAME, Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () ->
+                new BookFuzzyKeywordsPredicate(BookSearchField.NAME, List.of("")));
+        assertThrows(IllegalArgumentException.class, () ->
+                new BookFuzzyKeywordsPredicate(BookSearchField.NAME, List.of("Harry Potter")));
+    }
+
+    @Test
+    public void equals() {
+        BookFuzzyKeywordsPredicate firstPredicate =
+                new BookFuzzyKeywordsPredicate(BookSearchField.NAME, List.of("first"));
+        BookFuzzyKeywordsPredicate secondPredicate =
+                new BookFuzzyKeywordsPredicate(BookSearchField.NAME, Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertEquals(firstPredicate, firstPredicate);
+
+        // same values -> returns true
+        assertEquals(firstPredicate, new BookFuzzyKeywordsPredicate(BookSearchField.NAME, List.of("first")));
+
+        // different types -> returns false
+        assertNotEquals(1, firstPredicate);
+
+        // null -> returns false
+        assertNotEquals(null, firstPredicate);
+
+        // different keywords -> returns false
+        assertNotEquals(firstPredicate, secondPredicate);
+
+        // different field -> returns false
+        assertNotEquals(firstPredicate, new BookFuzzyKeywordsPredicate(BookSearchField.AUTHOR, List.of("first")));
+    }
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, BookFuzzyKeywordsPredicate.getMaxDistance("Pot"));
+        assertEquals(1, BookFuzzyKeywordsPredicate.getMaxDistance("Potter"));
+        assertEquals(2, BookFuzzyKeywordsPredicate.getMaxDistance("Potterhead"));
+    }
+
+    @Test
+    public void test_keywordsCloseToWords_returnsTrue() {
+        // exact keyword
+        BookFuzzyKeywordsPredicate predicate = new BookFuzzyKeywordsPredicate(BookSearchField.NAME, List.of("Harry"));
+        assertTrue(predicate.test(new BookBuilder().withName("Harry Potter").build()));
+
+        // misspelt mixed-case keywords
+        predicate = new BookFuzzyKeywordsPredicate(BookSearchField.NAME, Arrays.asList("hary", "PORTER"));
+        assertTrue(predicate.test(new BookBuilder().withName("Harry Potter").build()));
+
+        // misspelt author and tag
+        predicate = new BookFuzzyKeywordsPredicate(BookSearchField.AUTHOR, List.of("Rowlng"));
+        assertTrue(predicate.test(new BookBuilder().withAuthors("J. K. Rowling").build()));
+        predicate = new BookFuzzyKeywordsPredicate(BookSearchField.TAG, List.of("Fantsy"));
+        assertTrue(predicate.test(new BookBuilder().withTags("Fantasy").build()));
+    }
+
+    @Test
+    public void test_keywordsNotCloseToWords_returnsFalse() {
+        // short keyword must match exactly
+        BookFuzzyKeywordsPredicate predicate = new BookFuzzyKeywordsPredicate(BookSearchField.NAME, List.of("Pot"));
+        assertFalse(predicate.test(new BookBuilder().withName("Harry Potter").build()));
+
+        // only one keyword close to a word
+        predicate = new BookFuzzyKeywordsPredicate(BookSearchField.NAME, Arrays.asList("Harry", "Games"));
+        assertFalse(predicate.test(new BookBuilder().withName("Harry Potter").build()));
+
+        // keyword close to a word of another field
+        predicate = new BookFuzzyKeywordsPredicate(BookSearchField.AUTHOR, List.of("Poter"));
+        assertFalse(predicate.test(new BookBuilder().withName("Harry Potter").build()));
+    }
+
+    @Test
+    public void getScore_closerWords_higherScore() {
+        BookFuzzyKeywordsPredicate predicate = new BookFuzzyKeywordsPredicate(BookSearchField.NAME, List.of("Potter"));
+        ToDoubleFunction<Book> scorer = predicate.getScorer(new BookList());
+        double exactScore = scorer.applyAsDouble(new BookBuilder().withName("Harry Potter").build());
+        double closeScore = scorer.applyAsDouble(new BookBuilder().withName("Harry Porter").build());
+        assertEquals(0, exactScore);
+        assertTrue(closeScore < exactScore);
+    }
+}
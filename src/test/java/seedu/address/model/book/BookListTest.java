@@ -2,6 +2,7 @@ package seedu.address.model.book;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_AUTHOR_SUZANNE_COLLINS;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_BOOK_NAME_HUNGER_GAMES;
@@ -14,13 +15,17 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalBooks.AI;
 import static seedu.address.testutil.TypicalBooks.HARRY_POTTER;
 import static seedu.address.testutil.TypicalBooks.HUNGER_GAMES;
+import static seedu.address.testutil.TypicalBooks.getTypicalBooks;
 import static seedu.address.testutil.TypicalPatrons.ALICE;
 import static seedu.address.testutil.TypicalPatrons.BOB;
 import static seedu.address.testutil.TypicalPatrons.getTypicalPatrons;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -100,6 +105,56 @@ public class BookListTest {
         assertEquals(expectedBookList, bookList);
     }
 
+    @Test
+    public void setBook_equalCopiesInList_targetCopyReplaced() {
+        bookList.add(HARRY_POTTER);
+        bookList.add(HARRY_POTTER);
+        Book firstCopy = bookList.asUnmodifiableObservableList().get(0);
+        Book secondCopy = bookList.asUnmodifiableObservableList().get(1);
+        bookList.setBook(secondCopy, HUNGER_GAMES);
+        assertSame(firstCopy, bookList.asUnmodifiableObservableList().get(0));
+        assertEquals(HUNGER_GAMES, bookList.asUnmodifiableObservableList().get(1));
+        assertEquals(secondCopy.getCopyId(), bookList.asUnmodifiableObservableList().get(1).getCopyId());
+    }
+
+    @Test
+    public void add_sameBookTwice_copiesHaveDifferentCopyIds() {
+        bookList.add(HARRY_POTTER);
+        bookList.add(HARRY_POTTER);
+        bookList.add(HARRY_POTTER.withCopyId(1));
+        List<Book> copies = bookList.asUnmodifiableObservableList();
+        assertEquals(3, Set.of(copies.get(0).getCopyId(), copies.get(1).getCopyId(), copies.get(2).getCopyId())
+                .size());
+    }
+
+    @Test
+    public void add_bookWithUnusedCopyId_copyIdKept() {
+        bookList.add(HARRY_POTTER.withCopyId(42));
+        bookList.add(AI);
+        assertEquals(42, bookList.asUnmodifiableObservableList().get(0).getCopyId());
+        assertEquals(43, bookList.asUnmodifiableObservableList().get(1).getCopyId());
+    }
+
+    @Test
+    public void remove_copyBeforeOtherCopies_otherCopiesStillFound() {
+        bookList.setBooks(List.of(HARRY_POTTER, AI, HUNGER_GAMES));
+        List<Book> copies = List.copyOf(bookList.asUnmodifiableObservableList());
+        bookList.remove(copies.get(0));
+        bookList.setBook(copies.get(2), HARRY_POTTER);
+        bookList.remove(copies.get(1));
+        assertEquals(List.of(HARRY_POTTER), bookList.asUnmodifiableObservableList());
+        assertEquals(copies.get(2).getCopyId(), bookList.asUnmodifiableObservableList().get(0).getCopyId());
+    }
+
+    @Test
+    public void setBook_targetEqualToCopyInList_success() {
+        bookList.add(HARRY_POTTER);
+        bookList.setBook(new BookBuilder(HARRY_POTTER).build(), HUNGER_GAMES);
+        BookList expectedBookList = new BookList();
+        expectedBookList.add(HUNGER_GAMES);
+        assertEquals(expectedBookList, bookList);
+    }
+
     @Test
     public void setBook_editedBookHasDifferentIdentity_success() {
         bookList.add(HARRY_POTTER);
@@ -404,9 +459,268 @@ public class BookListTest {
         assertEquals(expectedBookList, bookList);
     }
 
+    @Test
+    public void setBook_editedBookHasDifferentIsbn_isbnQueriesUpdated() {
+        bookList.add(HARRY_POTTER);
+        bookList.setBook(HARRY_POTTER, HUNGER_GAMES);
+        assertFalse(bookList.hasSameIsbn(HARRY_POTTER));
+        assertTrue(bookList.hasSameIsbn(HUNGER_GAMES));
+        assertEquals(0, bookList.getMaxRequests(HARRY_POTTER));
+        assertEquals(1, bookList.getMaxRequests(HUNGER_GAMES));
+    }
+
+    @Test
+    public void setBook_copyBorrowed_availabilityUpdated() {
+        Book borrowedCopy = new BookBuilder(HARRY_POTTER).withBookStatus(getSampleBorrowedStatus()).build();
+        bookList.add(HARRY_POTTER);
+        assertTrue(bookList.hasAvailableCopy(HARRY_POTTER));
+        bookList.setBook(HARRY_POTTER, borrowedCopy);
+        assertFalse(bookList.hasAvailableCopy(HARRY_POTTER));
+        bookList.setBook(borrowedCopy, HARRY_POTTER);
+        assertTrue(bookList.hasAvailableCopy(HARRY_POTTER));
+    }
+
+    @Test
+    public void remove_oneOfManyCopies_isbnQueriesUpdated() {
+        Book otherCopy = new BookBuilder(HARRY_POTTER).withTimeAdded(1).build();
+        bookList.add(HARRY_POTTER);
+        bookList.add(otherCopy);
+        bookList.remove(HARRY_POTTER);
+        assertTrue(bookList.contains(HARRY_POTTER));
+        assertEquals(1, bookList.getMaxRequests(HARRY_POTTER));
+        bookList.remove(otherCopy);
+        assertFalse(bookList.contains(HARRY_POTTER));
+    }
+
+    @Test
+    public void setBooks_list_isbnQueriesUpdated() {
+        bookList.add(HARRY_POTTER);
+        bookList.setBooks(Collections.singletonList(HUNGER_GAMES));
+        assertFalse(bookList.hasSameIsbn(HARRY_POTTER));
+        assertTrue(bookList.hasAvailableCopy(HUNGER_GAMES));
+    }
+
+    @Test
+    public void returnAllBorrowedBooks_bookBorrowed_loansUpdated() {
+        bookList.add(HARRY_POTTER);
+        bookList.borrowBook(ALICE, HARRY_POTTER, VALID_RETURN_DATE);
+        assertTrue(bookList.isBorrowingSomeBook(ALICE));
+        assertEquals(Collections.singletonList(HARRY_POTTER), bookList.returnAllBorrowedBooks(ALICE));
+        assertFalse(bookList.isBorrowingSomeBook(ALICE));
+    }
+
+    @Test
+    public void isBorrowingSomeBook_borrowerWithSameIdButDifferentFields_returnsFalse() {
+        Patron borrower = getTypicalPatrons().get(0);
+        Patron patronWithSameId = new PatronBuilder(borrower).withName(VALID_NAME_BOB).build();
+        bookList.add(AI);
+        assertFalse(bookList.isBorrowingSomeBook(patronWithSameId));
+        assertTrue(bookList.isBorrowingSomeBook(borrower));
+    }
+
+    @Test
+    public void deleteAllRequests_requestAdded_requestsNoLongerTracked() {
+        bookList.add(HARRY_POTTER);
+        bookList.addRequest(HARRY_POTTER, ALICE);
+        assertTrue(bookList.asUnmodifiableObservableList().get(0).isRequestedBy(ALICE));
+
+        bookList.deleteAllRequests(HARRY_POTTER);
+        assertFalse(bookList.asUnmodifiableObservableList().get(0).isRequestedBy(ALICE));
+        assertEquals("", bookList.updateBookAfterPatronDelete(ALICE));
+    }
+
+    @Test
+    public void updateBookAfterPatronEdit_requesterEditedThenDeleted_requestDeleted() {
+        Patron editedAlice = new PatronBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        bookList.add(new BookBuilder(HARRY_POTTER).withRequesters(ALICE).build());
+        bookList.add(new BookBuilder(HUNGER_GAMES).withRequesters(BOB).build());
+
+        bookList.updateBookAfterPatronEdit(ALICE, editedAlice);
+        assertEquals("", bookList.updateBookAfterPatronDelete(ALICE));
+        assertEquals(String.format("%s is also deleted from the requesters list of some books\n", VALID_NAME_BOB),
+                bookList.updateBookAfterPatronDelete(editedAlice));
+
+        BookList expectedBookList = new BookList();
+        expectedBookList.add(HARRY_POTTER);
+        expectedBookList.add(new BookBuilder(HUNGER_GAMES).withRequesters(BOB).build());
+        assertEquals(expectedBookList, bookList);
+    }
+
+    @Test
+    public void getOverdueBooks_overdueAndNotOverdueBooks_returnsOverdueBooks() {
+        bookList.add(HARRY_POTTER);
+        bookList.add(AI);
+        bookList.borrowBook(BOB, HARRY_POTTER, "31-Dec-2999");
+
+        Set<Book> overdueBooks = bookList.getOverdueBooks();
+        assertEquals(1, overdueBooks.size());
+        assertTrue(overdueBooks.contains(bookList.asUnmodifiableObservableList().get(1)));
+    }
+
+    @Test
+    public void getBooksDueWithin_booksDueAtDifferentDates_returnsBooksInRange() {
+        Book copyDueToday = new BookBuilder(HARRY_POTTER).withTimeAdded(1).build();
+        Book copyDueLater = new BookBuilder(HARRY_POTTER).withTimeAdded(2).build();
+        bookList.setBooks(List.of(AI, copyDueToday, copyDueLater));
+        bookList.borrowBook(BOB, copyDueToday, BookStatus.getCurrentDateString());
+        bookList.borrowBook(BOB, copyDueLater, "31-Dec-2999");
+
+        Set<Book> dueBooks = bookList.getBooksDueWithin(7);
+        assertEquals(1, dueBooks.size());
+        assertTrue(dueBooks.iterator().next().isBorrowedBy(BOB));
+        assertFalse(dueBooks.iterator().next().isOverdue());
+        assertThrows(IllegalArgumentException.class, () -> bookList.getBooksDueWithin(-1));
+    }
+
+    @Test
+    public void remove_oneOfEqualBorrowedCopies_otherCopyStillIndexed() {
+        bookList.add(HARRY_POTTER);
+        bookList.add(HARRY_POTTER);
+        bookList.borrowBook(BOB, HARRY_POTTER, BookStatus.getCurrentDateString());
+        bookList.borrowBook(BOB, HARRY_POTTER, BookStatus.getCurrentDateString());
+        Book firstCopy = bookList.asUnmodifiableObservableList().get(0);
+        Book secondCopy = bookList.asUnmodifiableObservableList().get(1);
+        assertEquals(firstCopy, secondCopy);
+
+        bookList.remove(secondCopy);
+        Set<Book> dueBooks = bookList.getBooksDueWithin(0);
+        assertEquals(1, dueBooks.size());
+        assertSame(firstCopy, dueBooks.iterator().next());
+        assertEquals(List.of(HARRY_POTTER), bookList.returnAllBorrowedBooks(BOB));
+        assertEquals(firstCopy.getCopyId(), bookList.asUnmodifiableObservableList().get(0).getCopyId());
+        assertFalse(bookList.isBorrowingSomeBook(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> bookList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void searchBooks_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> bookList.searchBooks(null, 1));
+    }
+
+    @Test
+    public void searchBooks_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                bookList.searchBooks(new BookNameContainsKeywordsPredicate(List.of("the")), 0));
+    }
+
+    @Test
+    public void searchBooks_keywords_sameAsTestingEveryBook() {
+        getTypicalBooks().forEach(bookList::add);
+        bookList.add(HARRY_POTTER);
+        List<String> keywords = Arrays.asList("the", "Mo", "algorithms", "little book", "e  b", "ing:", "J.", "",
+                "  ", "nce]", "[tech", "xyz");
+        for (String keyword : keywords) {
+            assertMatchesSameBooks(new BookNameContainsKeywordsPredicate(List.of(keyword)));
+            assertMatchesSameBooks(new BookAuthorContainsKeywordsPredicate(List.of(keyword)));
+            assertMatchesSameBooks(new BookTagContainsKeywordsPredicate(List.of(keyword)));
+        }
+        assertMatchesSameBooks(new BookNameContainsKeywordsPredicate(keywords));
+    }
+
+    @Test
+    public void searchBooks_bookEditedAndRemoved_indexUpdated() {
+        bookList.add(HARRY_POTTER);
+        bookList.add(HUNGER_GAMES);
+        Book harryPotter = bookList.asUnmodifiableObservableList().get(0);
+        Book editedHarryPotter = new BookBuilder(HARRY_POTTER).withName("Fantastic Beasts").build();
+        bookList.setBook(harryPotter, editedHarryPotter);
+
+        assertTrue(getBooksMatching(new BookNameContainsKeywordsPredicate(List.of("potter"))).isEmpty());
+        List<Book> matchingBooks = getBooksMatching(new BookNameContainsKeywordsPredicate(List.of("beast")));
+        assertEquals(1, matchingBooks.size());
+        assertSame(bookList.asUnmodifiableObservableList().get(0), matchingBooks.get(0));
+
+        bookList.remove(bookList.asUnmodifiableObservableList().get(0));
+        assertTrue(getBooksMatching(new BookNameContainsKeywordsPredicate(List.of("beast"))).isEmpty());
+        assertEquals(1, getBooksMatching(new BookNameContainsKeywordsPredicate(List.of("games"))).size());
+    }
+
+    @Test
+    public void searchBooks_fuzzyKeywords_sameAsTestingEveryBook() {
+        getTypicalBooks().forEach(bookList::add);
+        List<String> keywords = Arrays.asList("the", "Mose", "algoritms", "litle", "Huxly", "tecnology", "xyz");
+        for (String keyword : keywords) {
+            for (BookSearchField field : BookSearchField.values()) {
+                assertMatchesSameBooks(new BookFuzzyKeywordsPredicate(field, List.of(keyword)));
+            }
+        }
+        assertMatchesSameBooks(new BookFuzzyKeywordsPredicate(BookSearchField.NAME, List.of("litle", "book")));
+    }
+
+    @Test
+    public void searchBooks_fuzzyKeywords_closestBooksFirst() {
+        Book harryPotter = new BookBuilder(HARRY_POTTER).withName("Harry Potter").build();
+        Book harryPorter = new BookBuilder(HARRY_POTTER).withName("Harry Porter").withTimeAdded(1).build();
+        Book harryPotters = new BookBuilder(HARRY_POTTER).withName("The Harry Potters").withTimeAdded(2).build();
+        bookList.setBooks(List.of(harryPotters, harryPorter, harryPotter));
+
+        List<Book> matchingBooks = getBooksMatching(
+                new BookFuzzyKeywordsPredicate(BookSearchField.NAME, List.of("potter")));
+        assertEquals(3, matchingBooks.size());
+        assertSame(bookList.asUnmodifiableObservableList().get(2), matchingBooks.get(0));
+        assertSame(bookList.asUnmodifiableObservableList().get(0), matchingBooks.get(1));
+        assertSame(bookList.asUnmodifiableObservableList().get(1), matchingBooks.get(2));
+
+        assertTrue(getBooksMatching(new BookFuzzyKeywordsPredicate(BookSearchField.NAME, List.of("pot")))
+                .isEmpty());
+    }
+
+    @Test
+    public void searchBooks_keywords_mostRelevantFirst() {
+        Book longName = new BookBuilder(HARRY_POTTER).withName("Harry Potter and the Order of the Phoenix").build();
+        Book shortName = new BookBuilder(HARRY_POTTER).withName("Harry Potter").withTimeAdded(1).build();
+        Book repeatedKeyword = new BookBuilder(HARRY_POTTER).withName("Harry Harry Potter").withTimeAdded(2).build();
+        Book otherName = new BookBuilder(HUNGER_GAMES).withName("Harry and the Games").build();
+        bookList.setBooks(List.of(longName, shortName, repeatedKeyword, otherName));
+        List<Book> books = bookList.asUnmodifiableObservableList();
+
+        // shorter names and names matching the keyword more often are more relevant
+        List<Book> matchingBooks = getBooksMatching(new BookNameContainsKeywordsPredicate(List.of("harry")));
+        assertEquals(4, matchingBooks.size());
+        assertSame(books.get(2), matchingBooks.get(0));
+        assertSame(books.get(1), matchingBooks.get(1));
+        assertSame(books.get(3), matchingBooks.get(2));
+        assertSame(books.get(0), matchingBooks.get(3));
+
+        // names matching rarer keywords are more relevant
+        matchingBooks = getBooksMatching(new BookNameContainsKeywordsPredicate(List.of("games", "potter")));
+        assertSame(books.get(3), matchingBooks.get(0));
+
+        // statistics are updated as books change
+        bookList.setBook(books.get(3), new BookBuilder(HUNGER_GAMES).withName("Potter Games Potter").build());
+        matchingBooks = getBooksMatching(new BookNameContainsKeywordsPredicate(List.of("potter")));
+        assertSame(books.get(3), matchingBooks.get(0));
+    }
+
+    @Test
+    public void searchBooks_limit_returnsBestBooks() {
+        getTypicalBooks().forEach(bookList::add);
+        IndexedBookPredicate predicate = new BookTagContainsKeywordsPredicate(List.of("e"));
+        List<Book> allMatchingBooks = getBooksMatching(predicate);
+
+        BookSearchResult result = bookList.searchBooks(predicate, 2);
+        assertEquals(allMatchingBooks.size(), result.getMatchCount());
+        assertEquals(allMatchingBooks.subList(0, 2), result.getTopBooks());
+
+        result = bookList.searchBooks(predicate, allMatchingBooks.size() + 1);
+        assertEquals(allMatchingBooks, result.getTopBooks());
+    }
+
+    private List<Book> getBooksMatching(IndexedBookPredicate predicate) {
+        return bookList.searchBooks(predicate, Integer.MAX_VALUE).getTopBooks();
+    }
+
+    private void assertMatchesSameBooks(IndexedBookPredicate predicate) {
+        List<Book> expectedBooks = bookList.asUnmodifiableObservableList().stream()
+                .filter(predicate).collect(Collectors.toList());
+        List<Book> matchingBooks = getBooksMatching(predicate);
+        assertEquals(expectedBooks.size(), matchingBooks.size());
+        assertTrue(matchingBooks.stream().allMatch(predicate));
+        assertTrue(expectedBooks.stream().allMatch(book -> matchingBooks.stream().anyMatch(match -> match == book)));
+    }
 }
@@ -0,0 +1,157 @@
+package seedu.address.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.book.BookQuery.and;
+import static seedu.address.model.book.BookQuery.authorContains;
+import static seedu.address.model.book.BookQuery.hasStatus;
+import static seedu.address.model.book.BookQuery.isDueWithin;
+import static seedu.address.model.book.BookQuery.isbnStartsWith;
+import static seedu.address.model.book.BookQuery.nameContains;
+import static seedu.address.model.book.BookQuery.not;
+import static seedu.address.model.book.BookQuery.or;
+import static seedu.address.model.book.BookQuery.tagContains;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBooks.AI;
+import static seedu.address.testutil.TypicalBooks.ALGORITHM;
+import static seedu.address.testutil.TypicalBooks.HARRY_POTTER;
+import static seedu.address.testutil.TypicalBooks.HUNGER_GAMES;
+import static seedu.address.testutil.TypicalBooks.getTypicalBooks;
+import static seedu.address.testutil.TypicalPatrons.ALICE;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.book.BookQuery.Status;
+import seedu.address.testutil.BookBuilder;
+
+public class BookQueryTest {
+
+    @Test
+    public void isbnStartsWith_notDigits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> isbnStartsWith("978-0"));
+    }
+
+    @Test
+    public void and_noQueries_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> and(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> or(List.of()));
+    }
+
+    @Test
+    public void equals() {
+        BookQuery query = and(List.of(tagContains("Magic"), hasStatus(Status.AVAILABLE)));
+
+        // same object -> returns true
+        assertEquals(query, query);
+
+        // same values, ignoring the case of keywords -> returns true
+        assertEquals(query, and(List.of(tagContains("magic"), hasStatus(Status.AVAILABLE))));
+
+        // null -> returns false
+        assertNotEquals(null, query);
+
+        // different field -> returns false
+        assertNotEquals(tagContains("Magic"), nameContains("Magic"));
+
+        // different operator -> returns false
+        assertNotEquals(query, or(List.of(tagContains("Magic"), hasStatus(Status.AVAILABLE))));
+
+        // different status -> returns false
+        assertNotEquals(hasStatus(Status.BORROWED), hasStatus(Status.OVERDUE));
+    }
+
+    @Test
+    public void test_terms() {
+        // fields, ignoring case
+        assertTrue(nameContains("to algo").test(ALGORITHM));
+        assertTrue(authorContains("cormen").test(ALGORITHM));
+        assertTrue(tagContains("computer").test(ALGORITHM));
+        assertFalse(tagContains("[ComputerScience]").test(ALGORITHM));
+        assertFalse(nameContains("Cormen").test(ALGORITHM));
+
+        // isbn prefix, without hyphens
+        assertTrue(isbnStartsWith("97803").test(ALGORITHM));
+        assertTrue(isbnStartsWith("").test(ALGORITHM));
+        assertFalse(isbnStartsWith("97804").test(ALGORITHM));
+
+        // status
+        assertTrue(hasStatus(Status.AVAILABLE).test(ALGORITHM));
+        assertFalse(hasStatus(Status.BORROWED).test(ALGORITHM));
+        assertFalse(hasStatus(Status.OVERDUE).test(ALGORITHM));
+        assertFalse(hasStatus(Status.AVAILABLE).test(AI));
+        assertTrue(hasStatus(Status.BORROWED).test(AI));
+        assertTrue(hasStatus(Status.OVERDUE).test(AI));
+
+        // due within days
+        Book dueToday = new BookBuilder(HARRY_POTTER).withBookStatus(BookStatus.createBorrowedBookStatus(ALICE,
+                BookStatus.getCurrentDate(), BookStatus.getCurrentDate())).build();
+        Book dueNextWeek = new BookBuilder(HARRY_POTTER).withBookStatus(BookStatus.createBorrowedBookStatus(ALICE,
+                BookStatus.getCurrentDate(), BookStatus.getCurrentDate().plusDays(7))).build();
+        assertTrue(isDueWithin(0).test(dueToday));
+        assertFalse(isDueWithin(6).test(dueNextWeek));
+        assertTrue(isDueWithin(7).test(dueNextWeek));
+        assertFalse(isDueWithin(7).test(AI));
+        assertFalse(isDueWithin(7).test(ALGORITHM));
+        assertThrows(IllegalArgumentException.class, () -> isDueWithin(-1));
+    }
+
+    @Test
+    public void test_operators() {
+        BookQuery computerScience = tagContains("ComputerScience");
+        BookQuery borrowed = hasStatus(Status.BORROWED);
+
+        assertTrue(and(List.of(computerScience, not(borrowed))).test(ALGORITHM));
+        assertFalse(and(List.of(computerScience, borrowed)).test(ALGORITHM));
+        assertTrue(or(List.of(computerScience, borrowed)).test(AI));
+        assertFalse(or(List.of(computerScience, not(borrowed))).test(AI));
+        assertTrue(not(not(borrowed)).test(AI));
+    }
+
+    @Test
+    public void getCandidates_queries_sameAsTestingEveryBook() {
+        BookList bookList = new BookList();
+        getTypicalBooks().forEach(bookList::add);
+        bookList.add(HARRY_POTTER);
+        bookList.add(HUNGER_GAMES);
+
+        List<BookQuery> queries = List.of(
+                and(List.of(tagContains("ComputerScience"), hasStatus(Status.AVAILABLE), authorContains("Cormen"))),
+                and(List.of(tagContains("Technology"), hasStatus(Status.OVERDUE))),
+                and(List.of(not(hasStatus(Status.BORROWED)), tagContains("e"))),
+                or(List.of(nameContains("the"), isbnStartsWith("978"))),
+                or(List.of(authorContains("Dashner"), not(tagContains("Adventure")))),
+                not(or(List.of(hasStatus(Status.BORROWED), nameContains("Harry Potter")))),
+                and(List.of(isbnStartsWith("9786"), tagContains("Scifi"))),
+                hasStatus(Status.AVAILABLE),
+                and(List.of(isDueWithin(36500), not(hasStatus(Status.OVERDUE)))),
+                isbnStartsWith("1"));
+        for (BookQuery query : queries) {
+            List<Book> expectedBooks = bookList.asUnmodifiableObservableList().stream()
+                    .filter(query).collect(Collectors.toList());
+            assertEquals(expectedBooks, bookList.searchBooks(query, Integer.MAX_VALUE).getTopBooks());
+        }
+    }
+
+    @Test
+    public void getCandidates_conjunction_onlyMostSelectivePartRead() {
+        BookList bookList = new BookList();
+        getTypicalBooks().forEach(bookList::add);
+        bookList.add(HARRY_POTTER);
+
+        BookQuery query = and(List.of(hasStatus(Status.AVAILABLE), tagContains("ComputerScience"),
+                authorContains("Cormen")));
+        assertEquals(1, query.estimateMatchCount(bookList));
+        assertEquals(List.of(ALGORITHM), query.getCandidates(bookList).collect(Collectors.toList()));
+
+        assertEquals(5, hasStatus(Status.AVAILABLE).estimateMatchCount(bookList));
+        assertEquals(1, hasStatus(Status.BORROWED).estimateMatchCount(bookList));
+        assertEquals(2, tagContains("ComputerScience").estimateMatchCount(bookList));
+        assertEquals(4, isbnStartsWith("978").estimateMatchCount(bookList));
+        assertEquals(6, or(List.of(nameContains("the"), not(tagContains("x")))).estimateMatchCount(bookList));
+    }
+}
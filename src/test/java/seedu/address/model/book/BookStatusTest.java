@@ -1,5 +1,6 @@
 package seedu.address.model.book;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.book.BookStatus.createAvailableBookStatus;
@@ -11,6 +12,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatrons.ALICE;
 import static seedu.address.testutil.TypicalPatrons.getTypicalPatrons;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -86,4 +88,43 @@ public class BookStatusTest {
         assertTrue(isValidStatus(BORROWED, VALID_BORROWER, VALID_BORROW_DATE, VALID_RETURN_DATE));
     }
 
+    @Test
+    public void parseDate() {
+        // valid dates, month is case insensitive
+        assertEquals(Optional.of(LocalDate.of(2022, 2, 14)), BookStatus.parseDate("14-Feb-2022"));
+        assertEquals(Optional.of(LocalDate.of(2022, 2, 14)), BookStatus.parseDate("14-FEB-2022"));
+        assertEquals(Optional.of(LocalDate.of(2024, 2, 29)), BookStatus.parseDate("29-feb-2024"));
+
+        // invalid dates
+        assertEquals(Optional.empty(), BookStatus.parseDate("29-Feb-2023"));
+        assertEquals(Optional.empty(), BookStatus.parseDate("32-Jan-2022"));
+        assertEquals(Optional.empty(), BookStatus.parseDate("4-Feb-2022"));
+        assertEquals(Optional.empty(), BookStatus.parseDate("14-Foo-2022"));
+    }
+
+    @Test
+    public void createBorrowedBookStatus_sameDates_equalsParsedStatus() {
+        BookStatus bookStatus = BookStatus.createBorrowedBookStatus(VALID_BORROWER.get(),
+                LocalDate.of(2022, 2, 14), LocalDate.of(2022, 2, 28));
+        BookStatus parsedBookStatus = new BookStatus(BORROWED, VALID_BORROWER, VALID_BORROW_DATE, VALID_RETURN_DATE);
+        assertEquals(parsedBookStatus, bookStatus);
+        assertEquals(parsedBookStatus.hashCode(), bookStatus.hashCode());
+        assertEquals("14-Feb-2022", bookStatus.getBorrowDateString());
+        assertEquals("28-Feb-2022", bookStatus.getReturnDateString());
+    }
+
+    @Test
+    public void isOverdue() {
+        BookStatus bookStatus = getSampleBorrowedStatus();
+
+        // on or before return date -> returns false
+        assertFalse(bookStatus.isOverdue(LocalDate.of(2022, 2, 28)));
+        assertFalse(bookStatus.isOverdue(LocalDate.of(2022, 2, 14)));
+
+        // after return date -> returns true
+        assertTrue(bookStatus.isOverdue(LocalDate.of(2022, 3, 1)));
+
+        // available status -> returns false
+        assertFalse(createAvailableBookStatus().isOverdue(LocalDate.of(2022, 3, 1)));
+    }
 }
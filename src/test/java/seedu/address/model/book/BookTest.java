@@ -2,7 +2,9 @@ package seedu.address.model.book;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_AUTHOR_JK_ROWLING;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_AUTHOR_SUZANNE_COLLINS;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_BOOK_NAME_HARRY_POTTER;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_BOOK_NAME_HUNGER_GAMES;
@@ -256,4 +258,72 @@ public class BookTest {
         assertEquals(HARRY_POTTER.getConsistentReplacement(HUNGER_GAMES), expectedBook);
     }
 
+    @Test
+    public void getConsistentReplacement_authorsAndTagsShared() {
+        Book replacement = HARRY_POTTER.getConsistentReplacement(HUNGER_GAMES);
+        assertSame(HUNGER_GAMES.getAuthors(), replacement.getAuthors());
+        assertSame(HARRY_POTTER.getTags(), replacement.getTags());
+    }
+
+    @Test
+    public void addRequester_authorsAndTagsShared() {
+        Book requestedBook = HARRY_POTTER.addRequester(ALICE);
+        assertSame(HARRY_POTTER.getAuthors(), requestedBook.getAuthors());
+        assertSame(HARRY_POTTER.getTags(), requestedBook.getTags());
+        assertSame(HARRY_POTTER.getTags(), requestedBook.getBookWithEmptyRequest().getTags());
+    }
+
+    @Test
+    public void hashCode_authorsInDifferentOrder_sameHashCode() {
+        Book book = new BookBuilder(HARRY_POTTER).withAuthors(VALID_AUTHOR_JK_ROWLING, VALID_AUTHOR_SUZANNE_COLLINS)
+                .build();
+        Book reorderedBook = new BookBuilder(HARRY_POTTER)
+                .withAuthors(VALID_AUTHOR_SUZANNE_COLLINS, VALID_AUTHOR_JK_ROWLING).build();
+        assertEquals(book, reorderedBook);
+        assertEquals(book.hashCode(), reorderedBook.hashCode());
+    }
+
+    @Test
+    public void constructor_copyFromOriginalBook_requestersShared() {
+        Book requestedBook = HARRY_POTTER.addRequester(ALICE).addRequester(BOB);
+        Book borrowedBook = new Book(requestedBook, getSampleBorrowedStatus());
+        assertSame(requestedBook.getRequesters(), borrowedBook.getRequesters());
+        assertSame(requestedBook.getAuthors(), borrowedBook.getAuthors());
+    }
+
+    @Test
+    public void deleteRequester_requestersModifiedAfter_originalBookUnchanged() {
+        Book requestedBook = HARRY_POTTER.addRequester(ALICE);
+        Book unrequestedBook = requestedBook.deleteRequester(ALICE);
+        assertTrue(requestedBook.isRequestedBy(ALICE));
+        assertEquals(HARRY_POTTER, unrequestedBook);
+    }
+
+    @Test
+    public void constructor_authorsAndTagsModifiedAfter_bookUnchanged() {
+        List<Author> authors = new ArrayList<>(HARRY_POTTER.getAuthors());
+        Set<Tag> tags = new HashSet<>(HARRY_POTTER.getTags());
+        Book book = new Book(HARRY_POTTER.getBookName(), HARRY_POTTER.getIsbn(), authors, tags,
+                HARRY_POTTER.getTimeAdded(), HARRY_POTTER.getBookStatus(), HARRY_POTTER.getRequesters());
+        authors.clear();
+        tags.add(Tag.of(VALID_TAG_SCIFI));
+        assertEquals(HARRY_POTTER, book);
+    }
+
+
+    @Test
+    public void withCopyId() {
+        assertThrows(IllegalArgumentException.class, () -> HARRY_POTTER.withCopyId(Book.NO_COPY_ID));
+        assertThrows(IllegalArgumentException.class, () -> HARRY_POTTER.withCopyId(-1));
+
+        Book copy = HARRY_POTTER.withCopyId(7);
+        assertEquals(7, copy.getCopyId());
+        assertTrue(copy.hasCopyId());
+        assertFalse(HARRY_POTTER.hasCopyId());
+
+        // copy id is not part of the book's details
+        assertEquals(HARRY_POTTER, copy);
+        assertEquals(HARRY_POTTER.hashCode(), copy.hashCode());
+        assertEquals(7, new Book(copy, BookStatus.createAvailableBookStatus()).getCopyId());
+    }
 }
@@ -75,4 +75,29 @@ public class IsbnTest {
         set1.add(new Isbn("17-18-13730-3"));
         assertNotEquals(set1, set3);
     }
+
+    @Test
+    public void toString_isbnWithHyphens_hyphensRemoved() {
+        assertEquals("9787161701885", new Isbn("978-71617-018-8-5").toString());
+        assertEquals("0306406152", new Isbn("0-306-40615-2").toString());
+    }
+
+    @Test
+    public void toLong() {
+        assertEquals(9787161701885L, new Isbn("978-71617-018-8-5").toLong());
+        // leading zeros of ISBN10 are dropped
+        assertEquals(306406152L, new Isbn("0-306-40615-2").toLong());
+    }
+
+    @Test
+    public void compareTo() {
+        Isbn isbn10 = new Isbn("0-306-40615-2");
+        Isbn otherIsbn10 = new Isbn("17-18-13730-3");
+        Isbn isbn13 = new Isbn("978-71617-018-8-5");
+
+        assertEquals(0, isbn13.compareTo(new Isbn("9787161701885")));
+        assertTrue(isbn10.compareTo(otherIsbn10) < 0);
+        assertTrue(otherIsbn10.compareTo(isbn13) < 0);
+        assertTrue(isbn13.compareTo(isbn10) > 0);
+    }
 }
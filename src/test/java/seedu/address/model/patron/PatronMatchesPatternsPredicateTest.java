@@ -0,0 +1,96 @@
+package seedu.address.model.patron;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PatronBuilder;
+
+public class PatronMatchesPatternsPredicateTest {
+
+    private final Patron alice = new PatronBuilder().withName("Alice Bob").withEmail("alice@example.com")
+            .withPhone("94351253").withId("A0123451H").build();
+
+    @Test
+    public void equals() {
+        List<String> firstPatterns = Collections.singletonList("first*");
+        List<String> secondPatterns = Arrays.asList("first*", "*second");
+
+        PatronMatchesPatternsPredicate firstPredicate = new PatronMatchesPatternsPredicate(firstPatterns);
+        PatronMatchesPatternsPredicate secondPredicate = new PatronMatchesPatternsPredicate(secondPatterns);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PatronMatchesPatternsPredicate(firstPatterns)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different patterns -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void isPattern() {
+        assertTrue(PatronMatchesPatternsPredicate.isPattern("ali*"));
+        assertTrue(PatronMatchesPatternsPredicate.isPattern("*ice"));
+        assertTrue(PatronMatchesPatternsPredicate.isPattern("*"));
+        assertFalse(PatronMatchesPatternsPredicate.isPattern("alice"));
+        assertFalse(PatronMatchesPatternsPredicate.isPattern("a*e"));
+    }
+
+    @Test
+    public void test_patronMatchesPatterns_returnsTrue() {
+        // whole name word
+        assertTrue(matches(alice, "bob"));
+
+        // prefix of name word, email, phone and id
+        assertTrue(matches(alice, "BO*"));
+        assertTrue(matches(alice, "alice@ex*"));
+        assertTrue(matches(alice, "9435*"));
+        assertTrue(matches(alice, "a01*"));
+
+        // suffix and substring
+        assertTrue(matches(alice, "*lice"));
+        assertTrue(matches(alice, "*@example.com"));
+        assertTrue(matches(alice, "*5125*"));
+
+        // only one matching pattern
+        assertTrue(matches(alice, "carol*", "*ob"));
+
+        // wildcard only
+        assertTrue(matches(alice, "**"));
+    }
+
+    @Test
+    public void test_patronDoesNotMatchPatterns_returnsFalse() {
+        // part of name word without wildcard
+        assertFalse(matches(alice, "ali"));
+
+        // prefix that is not at the start
+        assertFalse(matches(alice, "lice*"));
+
+        // suffix that is not at the end
+        assertFalse(matches(alice, "*alic"));
+
+        // substring across name words
+        assertFalse(matches(alice, "*e b*"));
+
+        // tags are not matched
+        assertFalse(matches(new PatronBuilder(alice).withTags("friends").build(), "friend*"));
+    }
+
+    private static boolean matches(Patron patron, String... patterns) {
+        return new PatronMatchesPatternsPredicate(Arrays.asList(patterns)).test(patron);
+    }
+}
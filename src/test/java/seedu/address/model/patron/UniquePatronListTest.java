@@ -3,18 +3,27 @@ package seedu.address.model.patron;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ID_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatrons.ALICE;
 import static seedu.address.testutil.TypicalPatrons.BOB;
+import static seedu.address.testutil.TypicalPatrons.CARL;
+import static seedu.address.testutil.TypicalPatrons.getTypicalPatrons;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.ListChange;
+import seedu.address.model.ListChangeLog;
 import seedu.address.model.patron.exceptions.DuplicatePatronException;
 import seedu.address.model.patron.exceptions.PatronNotFoundException;
 import seedu.address.testutil.PatronBuilder;
@@ -109,6 +118,39 @@ public class UniquePatronListTest {
         assertThrows(DuplicatePatronException.class, () -> uniquePatronList.setPatron(ALICE, BOB));
     }
 
+    @Test
+    public void setPatron_editedPatronHasSameIdentityAsTargetAndOtherPatron_throwsDuplicatePatronException() {
+        uniquePatronList.add(ALICE);
+        uniquePatronList.add(BOB);
+        Patron editedAlice = new PatronBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicatePatronException.class, () -> uniquePatronList.setPatron(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPatron_identityFieldsEdited_oldIdentityFreed() {
+        uniquePatronList.add(ALICE);
+        uniquePatronList.setPatron(ALICE, BOB);
+        assertFalse(uniquePatronList.contains(ALICE));
+        assertTrue(uniquePatronList.contains(BOB));
+        uniquePatronList.add(ALICE);
+    }
+
+    @Test
+    public void hasEditedPatron_otherPatronWithSameIdentity_returnsTrue() {
+        uniquePatronList.add(ALICE);
+        uniquePatronList.add(BOB);
+        Patron editedAlice = new PatronBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        assertTrue(uniquePatronList.hasEditedPatron(ALICE, editedAlice));
+    }
+
+    @Test
+    public void hasEditedPatron_onlyOldPatronWithSameIdentity_returnsFalse() {
+        uniquePatronList.add(ALICE);
+        uniquePatronList.add(BOB);
+        Patron editedAlice = new PatronBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertFalse(uniquePatronList.hasEditedPatron(ALICE, editedAlice));
+    }
+
     @Test
     public void remove_nullPatron_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatronList.remove(null));
@@ -125,6 +167,7 @@ public class UniquePatronListTest {
         uniquePatronList.remove(ALICE);
         UniquePatronList expectedUniquePatronList = new UniquePatronList();
         assertEquals(expectedUniquePatronList, uniquePatronList);
+        assertFalse(uniquePatronList.contains(ALICE));
     }
 
     @Test
@@ -162,9 +205,99 @@ public class UniquePatronListTest {
         assertThrows(DuplicatePatronException.class, () -> uniquePatronList.setPatrons(listWithDuplicatePatrons));
     }
 
+    @Test
+    public void setPatrons_listWithPatronsWithSameId_throwsDuplicatePatronException() {
+        uniquePatronList.add(ALICE);
+        Patron carlWithBobId = new PatronBuilder(CARL).withId(VALID_ID_BOB).build();
+        List<Patron> listWithDuplicatePatrons = Arrays.asList(BOB, carlWithBobId);
+        assertThrows(DuplicatePatronException.class, () -> uniquePatronList.setPatrons(listWithDuplicatePatrons));
+        // the list is unchanged
+        assertTrue(uniquePatronList.contains(ALICE));
+        assertFalse(uniquePatronList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePatronList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getPatronsMatching_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePatronList.getPatronsMatching(null));
+    }
+
+    @Test
+    public void getPatronsMatching_predicates_sameAsTestingEveryPatron() {
+        uniquePatronList.setPatrons(getTypicalPatrons());
+        List<String> keywords = Arrays.asList("meier", " Kurz ", "mei*", "*er", "*@EXAMPLE.COM", "*ei*", "9482*",
+                "a01234*", "*5H", "*", "*z*", "Meie", "nobody*");
+        for (String keyword : keywords) {
+            String word = keyword.trim().replace("*", "");
+            if (!word.isEmpty()) {
+                assertMatchesSamePatrons(new NameContainsKeywordsPredicate(List.of(word)));
+            }
+            assertMatchesSamePatrons(new PatronMatchesPatternsPredicate(List.of(keyword.trim())));
+        }
+        assertMatchesSamePatrons(new PatronMatchesPatternsPredicate(keywords));
+    }
+
+    @Test
+    public void getPatronsMatching_patronEditedAndRemoved_indexUpdated() {
+        uniquePatronList.add(ALICE);
+        uniquePatronList.add(CARL);
+        Patron editedAlice = new PatronBuilder(ALICE).withName(VALID_NAME_BOB).withEmail(VALID_EMAIL_BOB).build();
+        uniquePatronList.setPatron(ALICE, editedAlice);
+
+        assertTrue(uniquePatronList.getPatronsMatching(
+                new PatronMatchesPatternsPredicate(List.of("alice*"))).isEmpty());
+        assertEquals(Set.of(editedAlice), uniquePatronList.getPatronsMatching(
+                new PatronMatchesPatternsPredicate(List.of(VALID_EMAIL_BOB.substring(0, 3) + "*"))));
+
+        uniquePatronList.remove(editedAlice);
+        assertTrue(uniquePatronList.getPatronsMatching(
+                new PatronMatchesPatternsPredicate(List.of(VALID_EMAIL_BOB.substring(0, 3) + "*"))).isEmpty());
+        assertEquals(Set.of(CARL), uniquePatronList.getPatronsMatching(
+                new NameContainsKeywordsPredicate(List.of("carl"))));
+    }
+
+    @Test
+    public void remove_patronBeforeOthers_laterPatronsStillFound() {
+        uniquePatronList.setPatrons(List.of(ALICE, BOB, CARL));
+        uniquePatronList.remove(ALICE);
+        Patron editedCarl = new PatronBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePatronList.setPatron(CARL, editedCarl);
+        uniquePatronList.remove(BOB);
+        assertEquals(List.of(editedCarl), uniquePatronList.asUnmodifiableObservableList());
+        assertThrows(PatronNotFoundException.class, () -> uniquePatronList.remove(CARL));
+    }
+
+    @Test
+    public void getChangeLog_modifications_changesLogged() {
+        uniquePatronList.add(ALICE);
+        ListChangeLog<Patron> changeLog = uniquePatronList.getChangeLog();
+        Patron editedAlice = new PatronBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePatronList.add(CARL);
+        uniquePatronList.setPatron(ALICE, editedAlice);
+        uniquePatronList.remove(editedAlice);
+        assertEquals(Optional.of(List.of(ListChange.insert(1, CARL), ListChange.set(0, editedAlice),
+                ListChange.remove(0))), uniquePatronList.getChangeLog().getChangesSince(changeLog));
+
+        // copies carry on the log, while contents replaced all at once have no earlier changes
+        UniquePatronList copy = new UniquePatronList();
+        copy.setPatrons(uniquePatronList);
+        assertEquals(Optional.of(List.of()), copy.getChangeLog().getChangesSince(uniquePatronList.getChangeLog()));
+        copy.setPatrons(List.of(BOB));
+        assertTrue(copy.getChangeLog().getChangesSince(uniquePatronList.getChangeLog()).isEmpty());
+    }
+
+    private void assertMatchesSamePatrons(IndexedPatronPredicate predicate) {
+        Set<Patron> matchingPatrons = uniquePatronList.getPatronsMatching(predicate);
+        List<Patron> expectedPatrons = uniquePatronList.asUnmodifiableObservableList().stream()
+                .filter(predicate).collect(Collectors.toList());
+        List<Patron> actualPatrons = uniquePatronList.asUnmodifiableObservableList().stream()
+                .filter(matchingPatrons::contains).collect(Collectors.toList());
+        assertEquals(expectedPatrons, actualPatrons);
+        assertEquals(expectedPatrons.size(), matchingPatrons.size());
+    }
 }
@@ -1,5 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,10 +20,21 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
+    @Test
+    public void of_sameTagName_sameTag() {
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+        assertNotSame(Tag.of("friends"), Tag.of("Friends"));
+        assertEquals(new Tag("friends"), Tag.of("friends"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
-
 }
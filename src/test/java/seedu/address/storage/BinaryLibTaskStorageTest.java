@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBooks.AI;
+import static seedu.address.testutil.TypicalBooks.HARRY_POTTER;
+import static seedu.address.testutil.TypicalPatrons.ALICE;
+import static seedu.address.testutil.TypicalPatrons.BENSON;
+import static seedu.address.testutil.TypicalPatrons.HOON;
+import static seedu.address.testutil.TypicalPatrons.IDA;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.LibTask;
+import seedu.address.model.ReadOnlyLibTask;
+import seedu.address.model.book.Book;
+import seedu.address.testutil.TypicalLibTask;
+
+public class BinaryLibTaskStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path jsonFilePath;
+    private Path binaryFilePath;
+    private BinaryLibTaskStorage storage;
+    private LibTask original;
+
+    @BeforeEach
+    public void setUp() {
+        jsonFilePath = testFolder.resolve("TempLibTask.json");
+        binaryFilePath = BinaryLibTaskStorage.getBinaryFilePath(jsonFilePath);
+        storage = new BinaryLibTaskStorage(binaryFilePath, new JsonLibTaskStorage(jsonFilePath));
+        original = TypicalLibTask.getTypicalLibTask();
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(testFolder.resolve("TempLibTask.bin"), binaryFilePath);
+        assertEquals(Paths.get("data", "libtask.bin"),
+                BinaryLibTaskStorage.getBinaryFilePath(Paths.get("data", "libtask")));
+    }
+
+    @Test
+    public void readAndSaveLibTask_allInOrder_success() throws Exception {
+        storage.saveLibTask(original);
+        assertTrue(Files.exists(binaryFilePath));
+        assertFalse(Files.exists(jsonFilePath));
+        assertEquals(original, new LibTask(storage.readLibTask().get()));
+
+        // modify data, overwrite exiting file, and read back
+        original.addPatron(HOON);
+        original.removePatron(ALICE);
+        original.addBook(HARRY_POTTER);
+        original.borrowBook(BENSON, HARRY_POTTER, "31-Dec-2999");
+        original.addRequest(AI, BENSON);
+        storage.saveLibTask(original);
+        assertEquals(original, new LibTask(storage.readLibTask().get()));
+    }
+
+    @Test
+    public void readAndSaveLibTask_patronsNotInPatronList_success() throws Exception {
+        original.addBook(HARRY_POTTER);
+        original.borrowBook(IDA, HARRY_POTTER, "31-Dec-2999");
+        original.addRequest(AI, HOON);
+        storage.saveLibTask(original);
+        assertEquals(original, new LibTask(storage.readLibTask().get()));
+    }
+
+    @Test
+    public void readAndSaveLibTask_copyIds_preserved() throws Exception {
+        original.removeBook(AI);
+        original.addBook(AI);
+        storage.saveLibTask(original);
+        assertEquals(getCopyIds(original), getCopyIds(storage.readLibTask().get()));
+    }
+
+    @Test
+    public void readLibTask_missingBinaryFile_importedFromJson() throws Exception {
+        assertFalse(storage.readLibTask().isPresent());
+
+        new JsonLibTaskStorage(jsonFilePath).saveLibTask(original);
+        assertEquals(original, new LibTask(storage.readLibTask().get()));
+    }
+
+    @Test
+    public void readAndSaveLibTask_otherFilePath_interchangeStorageUsed() throws Exception {
+        Path exportFilePath = testFolder.resolve("export.json");
+        storage.saveLibTask(original, exportFilePath);
+        assertEquals(original, new LibTask(new JsonLibTaskStorage(exportFilePath).readLibTask().get()));
+        assertEquals(original, new LibTask(storage.readLibTask(exportFilePath).get()));
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void readLibTask_notBinarySnapshot_throwsDataConversionException() throws Exception {
+        Files.writeString(binaryFilePath, "not a binary snapshot");
+        assertThrows(DataConversionException.class, () -> storage.readLibTask());
+    }
+
+    @Test
+    public void readLibTask_truncatedSnapshot_throwsDataConversionException() throws Exception {
+        storage.saveLibTask(original);
+        byte[] snapshot = Files.readAllBytes(binaryFilePath);
+        Files.write(binaryFilePath, Arrays.copyOf(snapshot, snapshot.length / 2));
+        assertThrows(DataConversionException.class, () -> storage.readLibTask());
+    }
+
+    @Test
+    public void readLibTask_unsupportedVersion_throwsDataConversionException() throws Exception {
+        storage.saveLibTask(original);
+        byte[] snapshot = Files.readAllBytes(binaryFilePath);
+        snapshot[Integer.BYTES] = BinaryLibTaskStorage.FORMAT_VERSION + 1;
+        Files.write(binaryFilePath, snapshot);
+        assertThrows(DataConversionException.class, () -> storage.readLibTask());
+    }
+
+    @Test
+    public void readLibTask_corruptedSnapshot_newestValidBackupRead() throws Exception {
+        storage.saveLibTask(original);
+        LibTask expected = new LibTask(original);
+        original.addPatron(HOON);
+        storage.saveLibTask(original);
+
+        Files.writeString(binaryFilePath, "not a binary snapshot");
+        assertEquals(expected, new LibTask(storage.readLibTask().get()));
+    }
+
+    @Test
+    public void exportSnapshot_journaledSnapshot_exportedAndDeleted() throws Exception {
+        JournaledLibTaskStorage journaledStorage = new JournaledLibTaskStorage(storage);
+        journaledStorage.saveLibTask(original);
+        original.addPatron(HOON);
+        journaledStorage.saveLibTask(original);
+        original.addPatron(IDA);
+        journaledStorage.compact(original);
+        original.removePatron(ALICE);
+        journaledStorage.saveLibTask(original);
+        assertTrue(Files.exists(journaledStorage.getJournalFilePath()));
+
+        JsonLibTaskStorage jsonStorage = new JsonLibTaskStorage(jsonFilePath);
+        BinaryLibTaskStorage.exportSnapshot(binaryFilePath, jsonStorage);
+        assertEquals(original, new LibTask(jsonStorage.readLibTask().get()));
+        assertFalse(Files.exists(binaryFilePath));
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+        assertFalse(Files.exists(RotatingBackups.getBackupFilePath(binaryFilePath, 1)));
+
+        // the exported data is imported again instead of an old snapshot being read
+        assertEquals(original, new LibTask(storage.readLibTask().get()));
+    }
+
+    @Test
+    public void exportSnapshot_noSnapshot_nothingExported() throws Exception {
+        BinaryLibTaskStorage.exportSnapshot(binaryFilePath, new JsonLibTaskStorage(jsonFilePath));
+        assertFalse(Files.exists(jsonFilePath));
+    }
+
+    @Test
+    public void saveLibTask_nullLibTask_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveLibTask(null));
+    }
+
+    private static List<Long> getCopyIds(ReadOnlyLibTask libTask) {
+        return libTask.getBookList().stream().map(Book::getCopyId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,219 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBooks.AI;
+import static seedu.address.testutil.TypicalBooks.HARRY_POTTER;
+import static seedu.address.testutil.TypicalPatrons.ALICE;
+import static seedu.address.testutil.TypicalPatrons.HOON;
+import static seedu.address.testutil.TypicalPatrons.IDA;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.LibTask;
+import seedu.address.model.book.Book;
+import seedu.address.model.book.BookStatus;
+import seedu.address.testutil.BookBuilder;
+import seedu.address.testutil.TypicalLibTask;
+
+public class JournaledLibTaskStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledLibTaskStorage storage;
+    private LibTask original;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempLibTask.json");
+        storage = new JournaledLibTaskStorage(new JsonLibTaskStorage(filePath));
+        original = TypicalLibTask.getTypicalLibTask();
+    }
+
+    @Test
+    public void saveLibTask_changesAfterFirstSave_changesJournaled() throws Exception {
+        storage.saveLibTask(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        original.addPatron(HOON);
+        original.removePatron(ALICE);
+        Book newCopy = new BookBuilder(HARRY_POTTER).withTimeAdded(1).build();
+        original.addBook(newCopy);
+        original.borrowBook(IDA, newCopy, "31-Dec-2999");
+        original.setBook(AI, new Book(AI, BookStatus.createAvailableBookStatus()));
+        storage.saveLibTask(original);
+
+        // data file is untouched and the changes are in the journal
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+        assertEquals(new String(snapshot, StandardCharsets.UTF_8), Files.readString(filePath));
+        assertEquals(original, readLibTask());
+    }
+
+    @Test
+    public void saveLibTask_noChanges_nothingJournaled() throws Exception {
+        storage.saveLibTask(original);
+        storage.saveLibTask(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveLibTask_readBeforeSave_changesJournaled() throws Exception {
+        storage.saveLibTask(original);
+        LibTask readBack = new LibTask(storage.readLibTask().get());
+
+        readBack.addPatron(HOON);
+        storage.saveLibTask(readBack);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+        assertEquals(readBack, readLibTask());
+    }
+
+    @Test
+    public void saveLibTask_oneChange_onlyChangeJournaled() throws Exception {
+        storage.saveLibTask(original);
+        original.addPatron(HOON);
+        storage.saveLibTask(original);
+        original.removePatron(HOON);
+        storage.saveLibTask(original);
+
+        // a header and one record for each change
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, readLibTask());
+    }
+
+    @Test
+    public void saveLibTask_changesNotLogged_journalCompacted() throws Exception {
+        storage.saveLibTask(original);
+        original.addPatron(HOON);
+        storage.saveLibTask(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        // a LibTask with the same contents, but not copied from the saved one, has no log of its changes
+        LibTask unrelated = new LibTask();
+        unrelated.setPatrons(original.getPatronList());
+        unrelated.setBooks(original.getBookList());
+        unrelated.addPatron(IDA);
+        storage.saveLibTask(unrelated);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(unrelated, readLibTask());
+    }
+
+    @Test
+    public void saveLibTask_compactionThresholdExceeded_journalCompacted() throws Exception {
+        storage = new JournaledLibTaskStorage(new JsonLibTaskStorage(filePath), 1);
+        storage.saveLibTask(original);
+
+        original.addPatron(HOON);
+        storage.saveLibTask(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.addPatron(IDA);
+        storage.saveLibTask(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new LibTask(new JsonLibTaskStorage(filePath).readLibTask().get()));
+    }
+
+    @Test
+    public void readLibTask_incompleteLastEntry_wholeSaveIgnored() throws Exception {
+        storage.saveLibTask(original);
+        original.addPatron(HOON);
+        storage.saveLibTask(original);
+        LibTask expected = new LibTask(original);
+        original.addPatron(IDA);
+        original.removePatron(ALICE);
+        original.setBook(AI, new Book(AI, BookStatus.createAvailableBookStatus()));
+        storage.saveLibTask(original);
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        List<String> lines = Files.readAllLines(storage.getJournalFilePath());
+        String lastLine = lines.get(lines.size() - 1);
+        lines.set(lines.size() - 1, lastLine.substring(0, lastLine.length() / 2));
+        Files.write(storage.getJournalFilePath(), lines);
+
+        assertEquals(expected, new LibTask(storage.readLibTask().get()));
+
+        // the next save rewrites the data file, as the journal cannot be appended to
+        storage.saveLibTask(expected);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(expected, readLibTask());
+    }
+
+    @Test
+    public void readLibTask_journalOfOtherDataFile_journalIgnored() throws Exception {
+        storage.saveLibTask(original);
+        original.addPatron(HOON);
+        storage.saveLibTask(original);
+
+        LibTask replacement = TypicalLibTask.getTypicalLibTask();
+        replacement.removePatron(ALICE);
+        new JsonLibTaskStorage(filePath).saveLibTask(replacement);
+
+        assertEquals(replacement, readLibTask());
+    }
+
+    @Test
+    public void readLibTask_dataFileCorruptedInPlace_backupReadWithoutJournal() throws Exception {
+        storage.saveLibTask(original);
+        LibTask backedUp = new LibTask(original);
+        original.removePatron(ALICE);
+        storage.compact(original);
+        original.addPatron(HOON);
+        storage.saveLibTask(original);
+
+        // the corrupted data file keeps its size and last modified time, so the journal header still matches it
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+        byte[] garbage = new byte[(int) Files.size(filePath)];
+        Arrays.fill(garbage, (byte) '#');
+        Files.write(filePath, garbage);
+        Files.setLastModifiedTime(filePath, lastModifiedTime);
+
+        assertEquals(backedUp, readLibTask());
+    }
+
+    @Test
+    public void compact_writeFailsAfterBackupRotation_dataFileAndJournalStillRead() throws Exception {
+        storage.saveLibTask(original);
+        original.addPatron(HOON);
+        storage.saveLibTask(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        RotatingBackups failingBackups = new RotatingBackups() {
+            @Override
+            protected void replace(Path tempFile, Path filePath) throws IOException {
+                throw new IOException("Simulated crash");
+            }
+        };
+        JournaledLibTaskStorage failingStorage =
+                new JournaledLibTaskStorage(new JsonLibTaskStorage(filePath, failingBackups));
+        LibTask readBack = new LibTask(failingStorage.readLibTask().get());
+        readBack.addPatron(IDA);
+        assertThrows(IOException.class, () -> failingStorage.compact(readBack));
+
+        // the data file was backed up but not replaced, so its journal still belongs to it
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertArrayEquals(snapshot, Files.readAllBytes(RotatingBackups.getBackupFilePath(filePath, 1)));
+        assertEquals(original, readLibTask());
+    }
+
+    /**
+     * Reads the data file with a new storage, as when the app starts.
+     */
+    private LibTask readLibTask() throws Exception {
+        return new LibTask(new JournaledLibTaskStorage(new JsonLibTaskStorage(filePath)).readLibTask().get());
+    }
+}
@@ -136,4 +136,17 @@ public class JsonAdaptedBookTest {
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, BookStatus.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, book::toModelType);
     }
+
+    @Test
+    public void toModelType_bookWithCopyId_copyIdKept() throws Exception {
+        JsonAdaptedBook book = new JsonAdaptedBook(ALGORITHM.withCopyId(5));
+        assertEquals(5, book.toModelType().getCopyId());
+    }
+
+    @Test
+    public void toModelType_invalidCopyId_throwsIllegalValueException() {
+        JsonAdaptedBook book = new JsonAdaptedBook(VALID_BOOK_NAME, VALID_ISBN, VALID_TAGS, VALID_AUTHORS,
+                SAMPLE_CREATED_TIME, SAMPLE_AVAILABLE_BOOK_STATUS, VALID_REQUESTERS, null, -1L);
+        assertThrows(IllegalValueException.class, Book.COPY_ID_MESSAGE_CONSTRAINTS, book::toModelType);
+    }
 }
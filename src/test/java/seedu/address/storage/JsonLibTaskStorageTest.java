@@ -2,19 +2,23 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatrons.ALICE;
 import static seedu.address.testutil.TypicalPatrons.HOON;
 import static seedu.address.testutil.TypicalPatrons.IDA;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.LibTask;
 import seedu.address.model.ReadOnlyLibTask;
 import seedu.address.testutil.TypicalLibTask;
@@ -86,6 +90,83 @@ public class JsonLibTaskStorageTest {
 
     }
 
+    @Test
+    public void saveLibTask_savedMoreTimesThanBackupCount_oldestBackupDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempLibTask.json");
+        JsonLibTaskStorage jsonLibTaskStorage = new JsonLibTaskStorage(filePath, 2);
+        LibTask original = TypicalLibTask.getTypicalLibTask();
+        jsonLibTaskStorage.saveLibTask(original);
+        original.addPatron(HOON);
+        jsonLibTaskStorage.saveLibTask(original);
+        LibTask older = new LibTask(original);
+        original.addPatron(IDA);
+        jsonLibTaskStorage.saveLibTask(original);
+        LibTask newer = new LibTask(original);
+        original.removePatron(ALICE);
+        jsonLibTaskStorage.saveLibTask(original);
+
+        assertEquals(newer, readBackup(filePath, 1));
+        assertEquals(older, readBackup(filePath, 2));
+        assertFalse(Files.exists(RotatingBackups.getBackupFilePath(filePath, 3)));
+    }
+
+    @Test
+    public void readLibTask_corruptedFile_newestValidBackupRead() throws Exception {
+        Path filePath = testFolder.resolve("TempLibTask.json");
+        JsonLibTaskStorage jsonLibTaskStorage = new JsonLibTaskStorage(filePath);
+        LibTask original = TypicalLibTask.getTypicalLibTask();
+        jsonLibTaskStorage.saveLibTask(original);
+        LibTask expected = new LibTask(original);
+        original.addPatron(HOON);
+        jsonLibTaskStorage.saveLibTask(original);
+        original.addPatron(IDA);
+        jsonLibTaskStorage.saveLibTask(original);
+        jsonLibTaskStorage.readLibTask();
+        assertEquals(Optional.of(filePath), jsonLibTaskStorage.getLastReadFilePath());
+
+        // data file truncated, newest backup corrupted
+        Files.write(filePath, "{ \"patrons\": [".getBytes());
+        Files.write(RotatingBackups.getBackupFilePath(filePath, 1), "not json".getBytes());
+        assertEquals(expected, new LibTask(jsonLibTaskStorage.readLibTask().get()));
+        assertEquals(Optional.of(RotatingBackups.getBackupFilePath(filePath, 2)),
+                jsonLibTaskStorage.getLastReadFilePath());
+
+        // data file missing
+        Files.delete(filePath);
+        assertEquals(expected, new LibTask(jsonLibTaskStorage.readLibTask().get()));
+    }
+
+    @Test
+    public void readLibTask_corruptedFileWithoutBackups_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempLibTask.json");
+        JsonLibTaskStorage jsonLibTaskStorage = new JsonLibTaskStorage(filePath);
+        jsonLibTaskStorage.saveLibTask(TypicalLibTask.getTypicalLibTask());
+        Files.write(filePath, "not json".getBytes());
+        assertThrows(DataConversionException.class, () -> jsonLibTaskStorage.readLibTask());
+    }
+
+    @Test
+    public void readLibTask_firstVersionFile_migratedToCurrentVersion() throws Exception {
+        Path oldFilePath = Paths.get("src", "test", "data", "JsonSerializableLibTaskTest", "typicalBooksLibTask.json");
+        Path filePath = testFolder.resolve("TempLibTask.json");
+        Files.copy(oldFilePath, filePath);
+        JsonLibTaskStorage jsonLibTaskStorage = new JsonLibTaskStorage(filePath);
+
+        assertEquals(TypicalLibTask.getTypicalLibTask(), new LibTask(jsonLibTaskStorage.readLibTask().get()));
+        String currentVersion = "\"version\" : " + JsonSerializableLibTask.CURRENT_VERSION;
+        assertTrue(FileUtil.readFromFile(filePath).contains(currentVersion));
+        assertEquals(TypicalLibTask.getTypicalLibTask(), new LibTask(jsonLibTaskStorage.readLibTask().get()));
+
+        // the file in the first version is kept as a backup
+        assertEquals(FileUtil.readFromFile(oldFilePath),
+                FileUtil.readFromFile(RotatingBackups.getBackupFilePath(filePath, 1)));
+    }
+
+    private LibTask readBackup(Path filePath, int generation) throws Exception {
+        Path backupFilePath = RotatingBackups.getBackupFilePath(filePath, generation);
+        return new LibTask(new JsonLibTaskStorage(backupFilePath, 0).readLibTask().get());
+    }
+
     @Test
     public void saveLibTask_nullLibTask_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveLibTask(null, "SomeFile.json"));
@@ -1,16 +1,28 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatrons.ALICE;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.LibTask;
+import seedu.address.model.book.Book;
+import seedu.address.model.patron.Patron;
 import seedu.address.testutil.LengthyBooks;
 import seedu.address.testutil.ManyPatrons;
 import seedu.address.testutil.TypicalLibTask;
@@ -25,6 +37,8 @@ public class JsonSerializableLibTaskTest {
     private static final Path INVALID_BOOK_FILE = TEST_DATA_FOLDER.resolve("invalidBookLibTask.json");
     private static final Path LENGTHY_BOOK_FILE = TEST_DATA_FOLDER.resolve("lengthyBooksLibTask.json");
     private static final Path MANY_PATRONS_FILE = TEST_DATA_FOLDER.resolve("ManyPatronsLibTask.json");
+    private static final Path UNKNOWN_BORROWER_FILE = TEST_DATA_FOLDER.resolve("unknownBorrowerLibTask.json");
+    private static final Path UNSUPPORTED_VERSION_FILE = TEST_DATA_FOLDER.resolve("unsupportedVersionLibTask.json");
 
     @Test
     public void toModelType_typicalPatronsFile_success() throws Exception {
@@ -85,4 +99,88 @@ public class JsonSerializableLibTaskTest {
         assertEquals(libTaskFromFile, manyPatronsLibTask);
     }
 
+    @Test
+    public void readModelType_typicalPatronsFile_success() throws Exception {
+        assertEquals(TypicalLibTask.getTypicalLibTask(), readModelType(TYPICAL_PATRONS_FILE));
+    }
+
+    @Test
+    public void readModelType_typicalBooksFile_success() throws Exception {
+        assertEquals(TypicalLibTask.getTypicalLibTask(), readModelType(TYPICAL_BOOKS_FILE));
+    }
+
+    @Test
+    public void readModelType_manyPatronsFile_success() throws Exception {
+        assertEquals(ManyPatrons.getManyPatronsLibTask(), readModelType(MANY_PATRONS_FILE));
+    }
+
+    @Test
+    public void readModelType_invalidBookFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_BOOK_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicatePatrons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableLibTask.MESSAGE_DUPLICATE_PATRON, () ->
+                readModelType(DUPLICATE_PATRON_FILE));
+    }
+
+    @Test
+    public void readModelType_notJsonObject_throwsIoException(@TempDir Path testFolder) throws Exception {
+        Path filePath = testFolder.resolve("notObject.json");
+        Files.write(filePath, "[ ]".getBytes());
+        assertThrows(IOException.class, () -> readModelType(filePath));
+    }
+
+    @Test
+    public void readModelType_unknownBorrower_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedBook.MESSAGE_UNKNOWN_PATRON, "A0123452H"),
+                () -> readModelType(UNKNOWN_BORROWER_FILE));
+    }
+
+    @Test
+    public void readModelType_unsupportedVersion_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableLibTask.MESSAGE_UNSUPPORTED_VERSION,
+                99), () -> readModelType(UNSUPPORTED_VERSION_FILE));
+    }
+
+    @Test
+    public void readModelType_savedInCurrentVersion_patronsStoredByIdAndShared(@TempDir Path testFolder)
+            throws Exception {
+        Path filePath = testFolder.resolve("libTask.json");
+        LibTask original = TypicalLibTask.getTypicalLibTask();
+        JsonUtil.saveJsonFile(new JsonSerializableLibTask(original), filePath);
+        String json = FileUtil.readFromFile(filePath);
+        assertTrue(json.contains("\"borrowerId\""));
+        assertFalse(json.contains("\"borrower\""));
+
+        LibTask libTask = new LibTask();
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            int version = JsonSerializableLibTask.readModelType(parser, libTask);
+            assertEquals(JsonSerializableLibTask.CURRENT_VERSION, version);
+        }
+        assertEquals(original, libTask);
+        Book borrowedBook = libTask.getBookList().stream().filter(Book::isBorrowed).findFirst().get();
+        Patron borrower = borrowedBook.getBookStatus().getBorrower().get();
+        assertSame(borrower, libTask.getPatronList().stream().filter(borrower::equals).findFirst().get());
+    }
+
+    @Test
+    public void readModelType_borrowerNotInPatronList_borrowerStoredInFull(@TempDir Path testFolder)
+            throws Exception {
+        Path filePath = testFolder.resolve("libTask.json");
+        LibTask original = TypicalLibTask.getTypicalLibTask();
+        original.removePatron(ALICE);
+        JsonUtil.saveJsonFile(new JsonSerializableLibTask(original), filePath);
+        assertEquals(original, readModelType(filePath));
+    }
+
+    private LibTask readModelType(Path filePath) throws Exception {
+        LibTask libTask = new LibTask();
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            JsonSerializableLibTask.readModelType(parser, libTask);
+        }
+        return libTask;
+    }
+
 }
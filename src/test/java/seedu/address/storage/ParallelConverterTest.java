@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final int MANY_RECORDS = ParallelConverter.MIN_PARALLEL_SIZE * 8 + 1;
+
+    @Test
+    public void convertAll_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelConverter.convertAll(null, record -> record));
+        assertThrows(NullPointerException.class, () -> ParallelConverter.convertAll(List.of(), null));
+    }
+
+    @Test
+    public void convertAll_fewRecords_resultsInOrder() throws Exception {
+        assertEquals(List.of("0", "1", "2"), ParallelConverter.convertAll(List.of(0, 1, 2), String::valueOf));
+    }
+
+    @Test
+    public void convertAll_manyRecords_resultsInOrder() throws Exception {
+        List<Integer> records = IntStream.range(0, MANY_RECORDS).boxed().collect(Collectors.toList());
+        List<String> expected = records.stream().map(String::valueOf).collect(Collectors.toList());
+        assertEquals(expected, ParallelConverter.convertAll(records, String::valueOf));
+    }
+
+    @Test
+    public void convertAll_manyInvalidRecords_throwsExceptionOfFirstInvalidRecord() {
+        List<Integer> records = IntStream.range(0, MANY_RECORDS).boxed().collect(Collectors.toList());
+        int firstInvalidRecord = MANY_RECORDS / 3;
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalValueException.class, "Invalid record " + firstInvalidRecord, () ->
+                    ParallelConverter.convertAll(records, record -> {
+                        if (record >= firstInvalidRecord && record % 7 == firstInvalidRecord % 7) {
+                            throw new IllegalValueException("Invalid record " + record);
+                        }
+                        return record;
+                    }));
+        }
+    }
+}
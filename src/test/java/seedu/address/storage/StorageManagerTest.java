@@ -2,8 +2,15 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatrons.HOON;
+import static seedu.address.testutil.TypicalPatrons.IDA;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +67,57 @@ public class StorageManagerTest {
         assertEquals(original, new LibTask(retrieved));
     }
 
+    @Test
+    public void saveLibTaskInBackground_thenFlush_libTaskSaved() throws Exception {
+        LibTask original = TypicalLibTask.getTypicalLibTask();
+        storageManager.saveLibTaskInBackground(original);
+        storageManager.flushLibTask();
+        assertEquals(original, new LibTask(storageManager.readLibTask().get()));
+    }
+
+    @Test
+    public void saveLibTaskInBackground_severalSavesPending_onlyLatestSnapshotSaved() throws Exception {
+        List<Runnable> pendingSaves = new ArrayList<>();
+        storageManager = new StorageManager(new JsonLibTaskStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), pendingSaves::add);
+        LibTask original = TypicalLibTask.getTypicalLibTask();
+        storageManager.saveLibTaskInBackground(original);
+        original.addPatron(HOON);
+        storageManager.saveLibTaskInBackground(original);
+        LibTask expected = new LibTask(original);
+
+        // changes made after the last save are not in the snapshot
+        original.addPatron(IDA);
+        assertEquals(1, pendingSaves.size());
+        pendingSaves.forEach(Runnable::run);
+        assertEquals(expected, new LibTask(storageManager.readLibTask().get()));
+    }
+
+    @Test
+    public void flushLibTask_backgroundSaveFailed_throwsIoExceptionUntilSaved() throws Exception {
+        IOException failure = new IOException("dummy exception");
+        AtomicBoolean isSaveFailing = new AtomicBoolean(true);
+        storageManager = new StorageManager(new JsonLibTaskStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveLibTask(ReadOnlyLibTask libTask, Path filePath) throws IOException {
+                if (isSaveFailing.get()) {
+                    throw failure;
+                }
+                super.saveLibTask(libTask, filePath);
+            }
+        }, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        LibTask libTask = new LibTask();
+        storageManager.saveLibTaskInBackground(libTask);
+
+        assertThrows(IOException.class, failure.getMessage(), () -> storageManager.flushLibTask());
+        assertThrows(IOException.class, failure.getMessage(), () -> storageManager.checkLibTaskSaveFailure());
+
+        isSaveFailing.set(false);
+        storageManager.saveLibTaskInBackground(libTask);
+        storageManager.flushLibTask();
+        storageManager.checkLibTaskSaveFailure();
+    }
+
     @Test
     public void getLibTaskFilePath() {
         assertNotNull(storageManager.getLibTaskFilePath());